@@ -1,7 +1,9 @@
 #!/usr/bin/perl
 
 # Used to generate regionName.java
-# usage: ./generate_regionName.pl > ../source/com/maxmind/geoip/regionName.java
+# usage: ./generate_regionName.pl [region_codes.csv] > ../src/main/java/com/maxmind/geoip/regionName.java
+#
+# Without an argument the CSV is downloaded from MaxMind.
 
 use strict;
 use warnings;
@@ -9,109 +11,131 @@ use warnings;
 use HTTP::Tiny;
 use Text::CSV_XS;
 
-print <<'__JAVA_CODE__';
-package com.maxmind.geoip;
-// generated automatically from admin/generate_regionName.pl
-public class regionName {
-    static public String regionNameByCode(String country_code,String region_code) {
-        String name = null;
-        int region_code2 = -1;
-        if (region_code == null) { return null; }
-        if (region_code.equals("")) { return null; }
-
-        if (    ((region_code.charAt(0) >= 48 ) && ( region_code.charAt(0) < ( 48 + 10 )))
-             && ((region_code.charAt(1) >= 48 ) && ( region_code.charAt(1) < ( 48 + 10 )))
-        ){
-            // only numbers, that shorten the large switch statements
-            region_code2 = (region_code.charAt(0)- 48) * 10 + region_code.charAt(1) - 48;
-        } else if (    (    ((region_code.charAt(0) >= 65) && (region_code.charAt(0) < (65 + 26)))
-                     || ((region_code.charAt(0) >= 48) && (region_code.charAt(0) < (48 + 10))))
-                && (    ((region_code.charAt(1) >= 65) && (region_code.charAt(1) < (65 + 26)))
-                     || ((region_code.charAt(1) >= 48) && (region_code.charAt(1) < (48 + 10))))
-        ) {
-
-            region_code2 = (region_code.charAt(0) - 48) * (65 + 26 - 48) + region_code.charAt(1) - 48 + 100;
-        }
-
-        if (region_code2 == -1) {return null;}
-
-__JAVA_CODE__
-
-my $response = HTTP::Tiny->new->get(
-    'http://www.maxmind.com/download/geoip/misc/region_codes.csv');
+my $content;
+if (@ARGV) {
+    open my $fh, '<', $ARGV[0] or die "Cannot open $ARGV[0]: $!\n";
+    local $/;
+    $content = <$fh>;
+}
+else {
+    my $response = HTTP::Tiny->new->get(
+        'http://www.maxmind.com/download/geoip/misc/region_codes.csv');
 
-die "Failed to download CSV!\n" unless $response->{success};
+    die "Failed to download CSV!\n" unless $response->{success};
+    $content = $response->{content};
+}
 
 my $csv = Text::CSV_XS->new( { binary => 1 } );
-open my $sh, '<', \$response->{content};
+open my $sh, '<', \$content;
 
-my $last_country_code = q{};
+# the regions of every country, in the order of the CSV
+my @countries;
+my %regions;
+my $count = 0;
 while ( my $row = $csv->getline($sh) ) {
     my ( $country_code, $region_code, $name ) = @$row;
 
-    my $region_code2;
-    if ( $region_code =~ /^\d\d$/ ) {
-        $region_code2
-            = ( ord( substr( $region_code, 0, 1 ) ) - 48 ) * 10
-            + ord( substr( $region_code, 1, 1 ) )
-            - 48;
+    die "Country code seems wrong $country_code\n"
+        unless $country_code =~ /^[A-Z0-9]{2}$/;
+    die "Region code seems wrong $region_code\n"
+        unless $region_code =~ /^[A-Z0-9]{2}$/;
+    $name =~ s/\"//g;
+    die "Region name contains a separator $name\n" if $name =~ /[|\\]/;
 
-    }
-    elsif ( $region_code =~ /^[A-Z0-9]{2}$/ ) {
-        $region_code2
-            = (
-            ( ord( substr( $region_code, 0, 1 ) ) - 48 ) * ( 65 + 26 - 48 ) )
-            + ord( substr( $region_code, 1, 1 ) )
-            - 48 + 100;
-    }
-    elsif ( $region_code =~ /^[A-Z]{2}$/ ) {
-        $region_code2
-            = (
-            ( ord( substr( $region_code, 0, 1 ) ) - 48 ) * ( 65 + 26 - 48 ) )
-            + ord( substr( $region_code, 1, 1 ) )
-            - 48 + 100;
-    }
-    else {
-        die "Region code seems wrong $region_code\n";
-    }
-    readcode(
-        $last_country_code, $country_code, $region_code, $region_code2,
-        $name
-    );
-    $last_country_code = $country_code;
+    push @countries, $country_code unless exists $regions{$country_code};
+    push @{ $regions{$country_code} }, $region_code . $name;
+    $count++;
 }
-print "            }\n";
-print "        }\n";
-print "        return name;\n";
-print "    }\n";
-print "}\n";
-
-sub readcode {
-    my (
-        $last_country_code, $country_code, $region_code, $region_code2,
-        $name
-    ) = @_;
-    if ( $country_code ne $last_country_code ) {
-        if ( $last_country_code ne q{} ) {
-            print "            }\n";
+
+my $capacity = 1;
+$capacity *= 2 while $capacity < 2 * $count;
+
+print <<"__JAVA_CODE__";
+package com.maxmind.geoip;
+// generated automatically from admin/generate_regionName.pl
+public class regionName {
+
+    /*
+     * Pairs of a country code and its regions, each a two character region
+     * code followed by the name, separated by |.
+     */
+    private static final String[] REGIONS = {
+__JAVA_CODE__
+
+for my $country_code (@countries) {
+    print qq{        "$country_code",\n};
+    my @lines;
+    my $line = q{};
+    for my $region ( @{ $regions{$country_code} } ) {
+        if ( length($line) + length($region) > 80 ) {
+            push @lines, $line;
+            $line = q{};
         }
+        $line .= $region . q{|};
+    }
+    push @lines, $line;
+    print join( " +\n", map {qq{            "$_"}} @lines ), ",\n";
+}
 
-        if ( $last_country_code eq q{} ) {
-            print '        if (country_code.equals(' . q{"}
-                . $country_code . q{"}
-                . ")) {\n";
+print <<"__JAVA_CODE__";
+    };
+
+    /*
+     * An open addressing hash table of the regions, keyed by the four
+     * characters of country and region code packed into an int.
+     */
+    private static final int CAPACITY = $capacity;
+    private static final int[] KEYS = new int[CAPACITY];
+    private static final String[] NAMES = new String[CAPACITY];
+
+    static {
+        for (int i = 0; i < REGIONS.length; i += 2) {
+            String country_code = REGIONS[i];
+            String regions = REGIONS[i + 1];
+            for (int start = 0; start < regions.length(); ) {
+                int end = regions.indexOf('|', start);
+                int key = key(country_code, regions.charAt(start), regions.charAt(start + 1));
+                int slot = slot(key);
+                KEYS[slot] = key;
+                NAMES[slot] = regions.substring(start + 2, end);
+                start = end + 1;
+            }
         }
-        else {
-            print '        } else if (country_code.equals(' . qq(")
-                . $country_code . qq(")
-                . ")) {\n";
+    }
+
+    private static int key(String country_code, char region0, char region1) {
+        return country_code.charAt(0) << 24 | country_code.charAt(1) << 16 | region0 << 8 | region1;
+    }
+
+    /*
+     * The slot holding the key, or the empty slot it would go to.
+     */
+    private static int slot(int key) {
+        int slot = (key * 0x9E3779B9) >>> (32 - Integer.numberOfTrailingZeros(CAPACITY));
+        while (KEYS[slot] != 0 && KEYS[slot] != key) {
+            slot = (slot + 1) & (CAPACITY - 1);
         }
-        print "            switch (region_code2) {\n";
+        return slot;
     }
 
-    $name =~ s/\"//g;
-    $name = q{"} . $name . q{"};
-    print '                case ' . $region_code2 . ":\n";
-    print "                    return $name;\n";
-}
+    private static boolean isCodeChar(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z');
+    }
 
+    /**
+     * Returns the name of a region, or null if it is unknown. Only the first
+     * two characters of the region code are used.
+     */
+    static public String regionNameByCode(String country_code, String region_code) {
+        if (country_code == null || country_code.length() != 2) { return null; }
+        if (region_code == null || region_code.length() < 2) { return null; }
+        char region0 = region_code.charAt(0);
+        char region1 = region_code.charAt(1);
+        if (!isCodeChar(country_code.charAt(0)) || !isCodeChar(country_code.charAt(1))
+                || !isCodeChar(region0) || !isCodeChar(region1)) {
+            return null;
+        }
+        return NAMES[slot(key(country_code, region0, region1))];
+    }
+}
+__JAVA_CODE__
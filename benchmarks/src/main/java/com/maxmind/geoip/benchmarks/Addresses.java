@@ -0,0 +1,113 @@
+package com.maxmind.geoip.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Pre-generated lookup addresses, so benchmarks measure lookups and not the
+ * random number generator. IPv4 addresses are kept in long format, IPv6
+ * addresses as pairs of their high and low 64 bits.
+ */
+final class Addresses {
+
+    /**
+     * How the addresses of a benchmark are spread.
+     */
+    enum Distribution {
+        /** independent addresses, uniform over the address space */
+        UNIFORM,
+        /** a fixed population of addresses picked with Zipf's law, s = 1 */
+        ZIPFIAN,
+        /** consecutive addresses from a random start, like a scan */
+        SEQUENTIAL
+    }
+
+    static final int COUNT = 1 << 16;
+    static final int MASK = COUNT - 1;
+    private static final int ZIPF_POPULATION = 1 << 20;
+
+    private Addresses() {}
+
+    /**
+     * Returns COUNT IPv4 addresses.
+     */
+    static long[] ipv4(Distribution distribution, long seed) {
+        Random random = new Random(seed);
+        long[] addresses = new long[COUNT];
+        switch (distribution) {
+            case UNIFORM:
+                for (int i = 0; i < COUNT; i++) addresses[i] = random.nextInt() & 0xFFFFFFFFL;
+                break;
+            case ZIPFIAN:
+                long[] population = new long[ZIPF_POPULATION];
+                for (int i = 0; i < population.length; i++) population[i] = random.nextInt() & 0xFFFFFFFFL;
+                double[] cdf = zipfCdf(population.length);
+                for (int i = 0; i < COUNT; i++) addresses[i] = population[sample(cdf, random)];
+                break;
+            case SEQUENTIAL:
+                long start = random.nextInt() & 0xFFFFFFFFL;
+                for (int i = 0; i < COUNT; i++) addresses[i] = (start + i) & 0xFFFFFFFFL;
+                break;
+        }
+        return addresses;
+    }
+
+    /**
+     * Returns COUNT IPv6 addresses within 2000::/3, the global unicast range
+     * the databases cover, as 2 * COUNT longs.
+     */
+    static long[] ipv6(Distribution distribution, long seed) {
+        Random random = new Random(seed);
+        long[] addresses = new long[2 * COUNT];
+        switch (distribution) {
+            case UNIFORM:
+                for (int i = 0; i < COUNT; i++) {
+                    addresses[2 * i] = globalUnicast(random.nextLong());
+                    addresses[2 * i + 1] = random.nextLong();
+                }
+                break;
+            case ZIPFIAN:
+                long[] population = new long[2 * ZIPF_POPULATION];
+                for (int i = 0; i < population.length; i += 2) {
+                    population[i] = globalUnicast(random.nextLong());
+                    population[i + 1] = random.nextLong();
+                }
+                double[] cdf = zipfCdf(ZIPF_POPULATION);
+                for (int i = 0; i < COUNT; i++) {
+                    int pick = sample(cdf, random);
+                    addresses[2 * i] = population[2 * pick];
+                    addresses[2 * i + 1] = population[2 * pick + 1];
+                }
+                break;
+            case SEQUENTIAL:
+                long high = globalUnicast(random.nextLong());
+                long low = random.nextLong();
+                for (int i = 0; i < COUNT; i++) {
+                    addresses[2 * i] = high;
+                    addresses[2 * i + 1] = low + i;
+                }
+                break;
+        }
+        return addresses;
+    }
+
+    private static long globalUnicast(long bits) {
+        return 0x2000000000000000L | (bits >>> 3);
+    }
+
+    private static double[] zipfCdf(int n) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1.0 / (rank + 1);
+            cdf[rank] = sum;
+        }
+        for (int rank = 0; rank < n; rank++) cdf[rank] /= sum;
+        return cdf;
+    }
+
+    private static int sample(double[] cdf, Random random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(index < 0 ? -index - 1 : index, cdf.length - 1);
+    }
+}
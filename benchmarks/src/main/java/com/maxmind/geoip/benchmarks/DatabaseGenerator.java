@@ -0,0 +1,196 @@
+package com.maxmind.geoip.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+import com.maxmind.geoip.DatabaseInfo;
+import com.maxmind.geoip.DatabaseWriter;
+import com.maxmind.geoip.Location;
+
+/**
+ * Writes synthetic databases of any edition and size, for benchmarks and
+ * soak tests that need production sized trees and files. Random networks
+ * are inserted until the tree has about the requested number of nodes;
+ * their values are drawn from a fixed number of distinct records of a given
+ * size.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.maxmind.geoip.benchmarks.DatabaseGenerator \
+ *     ORG_EDITION 4000000 /tmp/GeoIPOrg.dat 200 1000000
+ * </pre>
+ *
+ * The arguments are the edition, as named by the constants of DatabaseInfo,
+ * the node count, the output file, and optionally the record size in bytes
+ * (default 24), the number of distinct records (default 10000) and the
+ * random seed (default 1).
+ */
+public final class DatabaseGenerator {
+
+    private static final String[] COUNTRIES = { "US", "CA", "GB", "DE", "FR", "JP", "CN", "BR", "IN", "AU", "RU",
+            "NL", "SE", "KR", "ZA", "MX" };
+    // the bytes a location takes besides its city name
+    private static final int LOCATION_OVERHEAD = 1 + 3 + 1 + 1 + 3 + 3 + 3;
+    private static final int MAX_LOCATION_LENGTH = 60;
+    private static final int MAX_STRING_LENGTH = 299;
+
+    private final DatabaseWriter writer;
+    private final boolean ipv6;
+    private final int recordSize;
+    private final int records;
+    private final Random random;
+
+    public DatabaseGenerator(int databaseType, int recordSize, int records, long seed) {
+        this.writer = new DatabaseWriter(databaseType);
+        this.ipv6 = DatabaseInfo.isIPv6(databaseType);
+        this.recordSize = recordSize;
+        this.records = records;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: DatabaseGenerator <edition> <nodes> <file> [record size] [records] [seed]");
+            System.exit(1);
+        }
+        int databaseType = DatabaseInfo.class.getField(args[0]).getInt(null);
+        int nodes = Integer.parseInt(args[1]);
+        Path path = Paths.get(args[2]);
+        int recordSize = args.length > 3 ? Integer.parseInt(args[3]) : 24;
+        int records = args.length > 4 ? Integer.parseInt(args[4]) : 10000;
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : 1;
+
+        long start = System.nanoTime();
+        new DatabaseGenerator(databaseType, recordSize, records, seed).generate(nodes, path);
+        System.out.printf("wrote %s in %.1f s%n", path, (System.nanoTime() - start) / 1e9);
+    }
+
+    /**
+     * Inserts random networks, spread over the address space so they do not
+     * overlap, sized for the tree to come out at about the given number of
+     * nodes, then writes the database.
+     */
+    public void generate(int nodes, Path path) throws IOException {
+        // IPv6 networks are placed within 2000::/3 by their high 64 bits
+        int bits = ipv6 ? 61 : 32;
+        long networks = networks(nodes, bits);
+        double stride = Math.pow(2, bits) / networks;
+        for (long i = 0; i < networks; i++) {
+            long start = (long) (i * stride);
+            long length = (long) ((i + 1) * stride) - start;
+            // at most half the stride, so an aligned network always fits in it
+            int shortest = Math.min(bits, bits + 1 - (63 - Long.numberOfLeadingZeros(length)));
+            int prefixLength = shortest + random.nextInt(bits - shortest + 1);
+            long size = 1L << (bits - prefixLength);
+            long first = (start + size - 1) & -size;
+            long last = (start + length - size) & -size;
+            long network = first + nextLong((last - first) / size + 1) * size;
+            if (ipv6) {
+                insertV6((network << 3) | 0x2000000000000000L, 0, prefixLength + 3);
+            } else {
+                insert(network, prefixLength);
+            }
+        }
+        writer.write(path);
+    }
+
+    /*
+     * n networks spread evenly share a tree of about n nodes down to depth
+     * log2(n), below which each adds a chain of nodes as long as its prefix
+     * reaches deeper; with uniform prefix lengths that is half the remaining
+     * bits on average.
+     */
+    private static long networks(int nodes, int bits) {
+        double n = nodes;
+        for (int i = 0; i < 8; i++) {
+            double depth = Math.log(n) / Math.log(2);
+            n = nodes / (1 + Math.max(0, bits - depth) / 2);
+        }
+        return Math.max(1, Math.min((long) n, 1L << bits));
+    }
+
+    private long nextLong(long bound) {
+        return (long) (random.nextDouble() * bound);
+    }
+
+    private void insert(long network, int prefixLength) {
+        switch (writer.getDatabaseType()) {
+            case DatabaseInfo.COUNTRY_EDITION:
+            case DatabaseInfo.PROXY_EDITION:
+            case DatabaseInfo.NETSPEED_EDITION:
+            case DatabaseInfo.REGION_EDITION_REV0:
+            case DatabaseInfo.REGION_EDITION_REV1:
+                writer.insert(network, prefixLength, value());
+                break;
+            case DatabaseInfo.CITY_EDITION_REV0:
+            case DatabaseInfo.CITY_EDITION_REV1:
+                writer.insert(network, prefixLength, location(random.nextInt(records)));
+                break;
+            default:
+                writer.insert(network, prefixLength, string(random.nextInt(records)));
+        }
+    }
+
+    private void insertV6(long high, long low, int prefixLength) {
+        switch (writer.getDatabaseType()) {
+            case DatabaseInfo.COUNTRY_EDITION_V6:
+                writer.insertV6(high, low, prefixLength, value());
+                break;
+            case DatabaseInfo.CITY_EDITION_REV0_V6:
+            case DatabaseInfo.CITY_EDITION_REV1_V6:
+                writer.insertV6(high, low, prefixLength, location(random.nextInt(records)));
+                break;
+            default:
+                writer.insertV6(high, low, prefixLength, string(random.nextInt(records)));
+        }
+    }
+
+    /*
+     * A value the lookup of the edition decodes: a country index, a
+     * netspeed or an encoded region.
+     */
+    private int value() {
+        switch (writer.getDatabaseType()) {
+            case DatabaseInfo.PROXY_EDITION:
+            case DatabaseInfo.NETSPEED_EDITION:
+                return random.nextInt(4);
+            case DatabaseInfo.REGION_EDITION_REV0:
+                // US states start at 1000
+                return 1000 + random.nextInt(26 * 26);
+            case DatabaseInfo.REGION_EDITION_REV1:
+                // US and Canadian regions, then countries by FIPS range
+                return 1 + random.nextInt(1352 + 250 * 360);
+            default:
+                return DatabaseWriter.countryIndex(COUNTRIES[random.nextInt(COUNTRIES.length)]);
+        }
+    }
+
+    /*
+     * Records are made from their number, so the same number always gives
+     * an equal record and the writer stores it once.
+     */
+    private Location location(int number) {
+        Random r = new Random(number);
+        Location location = new Location();
+        location.countryCode = COUNTRIES[r.nextInt(COUNTRIES.length)];
+        location.region = letters(r, 2);
+        location.city = letters(r, Math.max(1, Math.min(recordSize, MAX_LOCATION_LENGTH) - LOCATION_OVERHEAD));
+        location.latitude = r.nextFloat() * 180 - 90;
+        location.longitude = r.nextFloat() * 360 - 180;
+        location.metro_code = r.nextInt(1000);
+        location.area_code = r.nextInt(1000);
+        return location;
+    }
+
+    private String string(int number) {
+        Random r = new Random(number);
+        return letters(r, Math.max(1, Math.min(recordSize, MAX_STRING_LENGTH)));
+    }
+
+    private static String letters(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) chars[i] = (char) ('a' + random.nextInt(26));
+        return new String(chars);
+    }
+}
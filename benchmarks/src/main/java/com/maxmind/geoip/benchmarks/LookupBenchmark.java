@@ -0,0 +1,178 @@
+package com.maxmind.geoip.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.maxmind.geoip.DatabaseInfo;
+import com.maxmind.geoip.LookupService;
+
+/**
+ * Measures single lookups for every edition, DBType and address
+ * distribution. The lookup made depends on the edition of the database:
+ * getCountry, getRegion, getLocation or getOrg, or their V6 variants.
+ * Thread counts are chosen with JMH's -t option.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar LookupBenchmark -t 4 \
+ *     -p database=GeoIPCity.dat -p dbType=MEMORY_CACHE,MMAP
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+
+    private static final int COUNTRY = 0;
+    private static final int REGION = 1;
+    private static final int LOCATION = 2;
+    private static final int ORG = 3;
+
+    /** where the databases are, by default the test fixtures */
+    @Param({ "../src/test/resources/GeoIP" })
+    public String directory;
+
+    @Param({ "GeoIP.dat", "GeoIPCity.dat", "GeoIPASNum.dat", "GeoIPOrg.dat", "GeoIPISP.dat",
+            "GeoIPDomain.dat", "GeoIPNetSpeedCell.dat", "GeoIPv6.dat", "GeoLiteCityv6.dat" })
+    public String database;
+
+    @Param({ "File", "INDEX_CACHE", "MEMORY_CACHE", "MMAP", "COMPILED", "BLOCK_CACHE", "OFF_HEAP" })
+    public LookupService.DBType dbType;
+
+    @Param({ "UNIFORM", "ZIPFIAN", "SEQUENTIAL" })
+    public Addresses.Distribution distribution;
+
+    private LookupService service;
+    private int kind;
+    private boolean ipv6;
+    private long[] addresses;
+    private String[] strings;
+
+    /**
+     * Where the next lookup of a thread takes its address from.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup(Level.Trial)
+    public void open() throws IOException {
+        service = new LookupService(new File(directory, database), dbType);
+        int type = service.getDatabaseInfo().getType();
+        kind = kind(type);
+        ipv6 = service.getDatabaseInfo().isIPv6();
+        addresses = ipv6 ? Addresses.ipv6(distribution, 42) : Addresses.ipv4(distribution, 42);
+        strings = new String[Addresses.COUNT];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = ipv6 ? format(addresses[2 * i], addresses[2 * i + 1]) : format(addresses[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        service.close();
+    }
+
+    private static int kind(int type) {
+        switch (type) {
+            case DatabaseInfo.REGION_EDITION_REV0:
+            case DatabaseInfo.REGION_EDITION_REV1:
+                return REGION;
+            case DatabaseInfo.CITY_EDITION_REV0:
+            case DatabaseInfo.CITY_EDITION_REV1:
+            case DatabaseInfo.CITY_EDITION_REV0_V6:
+            case DatabaseInfo.CITY_EDITION_REV1_V6:
+                return LOCATION;
+            case DatabaseInfo.ORG_EDITION:
+            case DatabaseInfo.ISP_EDITION:
+            case DatabaseInfo.DOMAIN_EDITION:
+            case DatabaseInfo.ASNUM_EDITION:
+            case DatabaseInfo.NETSPEED_EDITION_REV1:
+            case DatabaseInfo.ORG_EDITION_V6:
+            case DatabaseInfo.ISP_EDITION_V6:
+            case DatabaseInfo.DOMAIN_EDITION_V6:
+            case DatabaseInfo.ASNUM_EDITION_V6:
+            case DatabaseInfo.NETSPEED_EDITION_REV1_V6:
+                return ORG;
+            default:
+                return COUNTRY;
+        }
+    }
+
+    /**
+     * Looks up an address given in its primitive form.
+     */
+    @Benchmark
+    public Object lookup(Cursor cursor) {
+        int i = cursor.next++ & Addresses.MASK;
+        if (ipv6) {
+            long high = addresses[2 * i];
+            long low = addresses[2 * i + 1];
+            switch (kind) {
+                case LOCATION: return service.getLocationV6(high, low);
+                case ORG: return service.getOrgV6(high, low);
+                default: return service.getCountryV6(high, low);
+            }
+        }
+        long ipnum = addresses[i];
+        switch (kind) {
+            case REGION: return service.getRegion(ipnum);
+            case LOCATION: return service.getLocation(ipnum);
+            case ORG: return service.getOrg(ipnum);
+            default: return service.getCountry(ipnum);
+        }
+    }
+
+    /**
+     * Looks up an address given as a String, parsing included.
+     */
+    @Benchmark
+    public Object lookupString(Cursor cursor) {
+        String address = strings[cursor.next++ & Addresses.MASK];
+        if (ipv6) {
+            switch (kind) {
+                case LOCATION: return service.getLocationV6(address);
+                case ORG: return service.getOrgV6(address);
+                default: return service.getCountryV6(address);
+            }
+        }
+        switch (kind) {
+            case REGION: return service.getRegion(address);
+            case LOCATION: return service.getLocation(address);
+            case ORG: return service.getOrg(address);
+            default: return service.getCountry(address);
+        }
+    }
+
+    private static String format(long ipnum) {
+        return (ipnum >>> 24) + "." + ((ipnum >>> 16) & 0xFF) + "." + ((ipnum >>> 8) & 0xFF) + "." + (ipnum & 0xFF);
+    }
+
+    private static String format(long high, long low) {
+        StringBuilder sb = new StringBuilder(39);
+        for (int group = 0; group < 8; group++) {
+            long half = group < 4 ? high : low;
+            if (group > 0) sb.append(':');
+            sb.append(Long.toHexString((half >>> (48 - 16 * (group & 3))) & 0xFFFF));
+        }
+        return sb.toString();
+    }
+}
@@ -21,6 +21,8 @@ class CountryLookupV6 {
 	    // resources to load the GeoIP.dat file into memory
 	    //LookupService cl = new LookupService(dbfile,LookupService.GEOIP_STANDARD);
 	    LookupService cl = new LookupService(dbfile,LookupService.GEOIP_MEMORY_CACHE);
+	    // host names are only resolved on request
+	    cl.setResolveHostnames(true);
 
 	    System.out.println(cl.getCountryV6("ipv6.google.com").getCode());
 	    System.out.println(cl.getCountryV6("::127.0.0.1").getName());
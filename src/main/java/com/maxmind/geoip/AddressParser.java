@@ -0,0 +1,169 @@
+package com.maxmind.geoip;
+
+/**
+ * Parses IP address literals without going through InetAddress. Nothing is
+ * allocated and no resolver is ever consulted; input that is not a literal is
+ * simply rejected.
+ * <p>
+ *
+ * IPv4 addresses are returned in the long format used by
+ * {@link LookupService#getCountry(long)}. IPv6 addresses are returned as two
+ * longs, the high and the low 64 bits, as used by
+ * {@link LookupService#getCountryV6(long, long)}.
+ * <p>
+ *
+ * Byte ranges are read as ASCII, which makes them usable on UTF-8 buffers.
+ */
+public final class AddressParser {
+
+    private AddressParser() {}
+
+    /**
+     * Parses a dotted-quad IPv4 address such as "64.17.254.216".
+     *
+     * @param address
+     *            the characters to parse.
+     * @return the address in long format, or -1 if it is not an IPv4 literal.
+     */
+    public static long parseIPv4(CharSequence address) {
+        return parseIPv4At(address, 0, address.length());
+    }
+
+    /**
+     * Parses a dotted-quad IPv4 address from a range of an ASCII or UTF-8
+     * buffer.
+     *
+     * @return the address in long format, or -1 if it is not an IPv4 literal.
+     */
+    public static long parseIPv4(byte[] buffer, int offset, int length) {
+        return parseIPv4At(buffer, offset, offset + length);
+    }
+
+    /**
+     * Parses an IPv6 address in any of the RFC 4291 text forms, including
+     * "::" compression, an embedded IPv4 address and an optional zone.
+     *
+     * @param address
+     *            the characters to parse.
+     * @param result
+     *            receives the high 64 bits at index 0 and the low 64 bits at
+     *            index 1. It is left alone if the address is invalid.
+     * @return true if the address is an IPv6 literal.
+     */
+    public static boolean parseIPv6(CharSequence address, long[] result) {
+        return parseIPv6At(address, 0, address.length(), result);
+    }
+
+    /**
+     * Parses an IPv6 address from a range of an ASCII or UTF-8 buffer.
+     *
+     * @see #parseIPv6(CharSequence, long[])
+     */
+    public static boolean parseIPv6(byte[] buffer, int offset, int length, long[] result) {
+        return parseIPv6At(buffer, offset, offset + length, result);
+    }
+
+    private static long parseIPv4At(Object src, int start, int end) {
+        long result = 0;
+        int i = start;
+        for (int octets = 1; ; octets++) {
+            int value = 0;
+            int digits = 0;
+            for (char c; i < end && (c = charAt(src, i)) >= '0' && c <= '9'; i++) {
+                if (++digits > 3) return -1;
+                value = value * 10 + (c - '0');
+            }
+            if (digits == 0 || value > 255) return -1;
+            result = (result << 8) | value;
+            if (octets == 4) return i == end ? result : -1;
+            if (i == end || charAt(src, i) != '.') return -1;
+            i++;
+        }
+    }
+
+    private static boolean parseIPv6At(Object src, int start, int end, long[] result) {
+        if (end - start >= 2 && charAt(src, start) == '[' && charAt(src, end - 1) == ']') {
+            start++;
+            end--;
+        }
+        for (int i = start; i < end; i++) {
+            if (charAt(src, i) == '%') {
+                // drop the zone, it does not take part in the lookup
+                end = i;
+                break;
+            }
+        }
+        int groups = scanIPv6(src, start, end, -1, null);
+        if (groups < 0) return false;
+        scanIPv6(src, start, end, groups, result);
+        return true;
+    }
+
+    /**
+     * Walks the groups of an IPv6 literal. The first pass (total &lt; 0) only
+     * validates and counts them, the second one knows how many groups "::"
+     * stands for and stores the address.
+     *
+     * @return the number of explicit 16 bit groups, or -1 if malformed.
+     */
+    private static int scanIPv6(Object src, int start, int end, int total, long[] result) {
+        long high = 0;
+        long low = 0;
+        int group = 0;
+        boolean compressed = false;
+        int i = start;
+        if (end - i >= 2 && charAt(src, i) == ':' && charAt(src, i + 1) == ':') {
+            compressed = true;
+            if (total >= 0) group += 8 - total;
+            i += 2;
+        }
+        while (i < end) {
+            int value = 0;
+            int j = i;
+            for (int digit; j < end && j - i < 5 && (digit = hexDigit(charAt(src, j))) >= 0; j++) {
+                value = (value << 4) | digit;
+            }
+            if (j < end && charAt(src, j) == '.') {
+                // an embedded IPv4 address takes the last two groups
+                long ipv4 = parseIPv4At(src, i, end);
+                if (ipv4 < 0 || group > 6) return -1;
+                low |= ipv4;
+                group += 2;
+                break;
+            }
+            if (j == i || j - i > 4 || group > 7) return -1;
+            if (group < 4) high |= (long) value << (48 - 16 * group);
+            else low |= (long) value << (48 - 16 * (group - 4));
+            group++;
+            if (j == end) break;
+            if (charAt(src, j++) != ':') return -1;
+            if (j < end && charAt(src, j) == ':') {
+                if (compressed) return -1;
+                compressed = true;
+                if (total >= 0) group += 8 - total;
+                j++;
+            } else if (j == end) {
+                return -1;
+            }
+            i = j;
+        }
+        if (total >= 0) {
+            result[0] = high;
+            result[1] = low;
+            return total;
+        }
+        return (compressed ? group <= 7 : group == 8) ? group : -1;
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+
+    private static char charAt(Object src, int i) {
+        if (src instanceof byte[]) return (char) (((byte[]) src)[i] & 0xFF);
+        return ((CharSequence) src).charAt(i);
+    }
+}
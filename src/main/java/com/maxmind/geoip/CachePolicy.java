@@ -0,0 +1,24 @@
+package com.maxmind.geoip;
+
+/**
+ * Chooses which entry a bounded cache gives up when it is full.
+ *
+ * @see LookupService#setLocationCache(int, CachePolicy)
+ */
+public enum CachePolicy {
+    /**
+     * Evicts the oldest entry.
+     */
+    FIFO,
+    /**
+     * Evicts an entry that was not used recently (CLOCK approximation of
+     * least recently used, which keeps hits free of locks).
+     */
+    LRU,
+    /**
+     * W-TinyLFU: new entries pass a small window and are only kept if they
+     * are asked for more often than the entry they would replace, which
+     * shields popular entries from scans and one-off addresses.
+     */
+    TINY_LFU
+}
@@ -0,0 +1,194 @@
+package com.maxmind.geoip;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caches the results of a LookupService per IP address. IPv4 addresses are
+ * keyed by their long format and IPv6 addresses by their two 64 bit halves,
+ * so a hit is a hash probe without boxing and without walking the search tree
+ * or decoding a record. This pays off for traffic that repeats addresses,
+ * such as NAT gateways and crawlers.
+ * <p>
+ *
+ * Every kind of result (country, ID, location, organization) gets its own
+ * cache of the configured size the first time it is asked for, for IPv4 and
+ * IPv6 separately. Returned Location objects are shared between callers and
+ * must not be modified.
+ *
+ * <pre>
+ * CachingLookupService cached = new CachingLookupService(
+ *         new LookupService(&quot;GeoIPCity.dat&quot;, LookupService.DBType.MEMORY_CACHE), 100000);
+ * Location location = cached.getLocation(&quot;64.17.254.216&quot;);
+ * </pre>
+ */
+public class CachingLookupService {
+
+    /**
+     * Rough heap cost of one cached result including the cache slot, used to
+     * turn a memory budget into a number of entries.
+     */
+    public final static int ESTIMATED_ENTRY_BYTES = 256;
+
+    private final static int COUNTRY = 0;
+    private final static int ID = 1;
+    private final static int LOCATION = 2;
+    private final static int ORG = 3;
+    private final static int KINDS = 4;
+
+    /* stands for null results, which the cache cannot hold */
+    private final static Object NONE = new Object();
+
+    private final LookupService service;
+    private final int maxEntries;
+    private final CachePolicy policy;
+    private final AtomicReferenceArray<LongKeyCache<Object>> caches = new AtomicReferenceArray<LongKeyCache<Object>>(2 * KINDS);
+
+    /**
+     * Creates a W-TinyLFU cache in front of a lookup service.
+     *
+     * @param service
+     *            the lookup service answering misses.
+     * @param maxEntries
+     *            the number of results kept per kind of lookup.
+     */
+    public CachingLookupService(LookupService service, int maxEntries) {
+        this(service, maxEntries, CachePolicy.TINY_LFU);
+    }
+
+    /**
+     * Creates a cache in front of a lookup service.
+     *
+     * @param service
+     *            the lookup service answering misses.
+     * @param maxEntries
+     *            the number of results kept per kind of lookup.
+     * @param policy
+     *            which result to drop when the cache is full.
+     */
+    public CachingLookupService(LookupService service, int maxEntries, CachePolicy policy) {
+        if (maxEntries <= 0) throw new IllegalArgumentException("maxEntries must be positive");
+        this.service = service;
+        this.maxEntries = maxEntries;
+        this.policy = policy;
+    }
+
+    /**
+     * Creates a W-TinyLFU cache sized by a memory budget.
+     *
+     * @param service
+     *            the lookup service answering misses.
+     * @param maxBytes
+     *            the approximate heap to spend per kind of lookup.
+     */
+    public static CachingLookupService withMaxBytes(LookupService service, long maxBytes) {
+        long entries = Math.max(1, maxBytes / ESTIMATED_ENTRY_BYTES);
+        return new CachingLookupService(service, (int) Math.min(entries, Integer.MAX_VALUE / 2), CachePolicy.TINY_LFU);
+    }
+
+    public LookupService getLookupService() {
+        return service;
+    }
+
+    public void close() {
+        service.close();
+    }
+
+    public Country getCountry(String ipAddress) {
+        long ipnum = service.toIPv4(ipAddress);
+        return ipnum < 0 ? LookupService.UNKNOWN_COUNTRY : getCountry(ipnum);
+    }
+
+    public Country getCountry(long ipAddress) {
+        LongKeyCache<Object> cache = cache(COUNTRY, false);
+        Object value = cache.get(ipAddress);
+        if (value == null) cache.put(ipAddress, value = service.getCountry(ipAddress));
+        return (Country) value;
+    }
+
+    public Country getCountryV6(String ipAddress) {
+        long[] v6 = service.toIPv6(ipAddress);
+        return v6 == null ? LookupService.UNKNOWN_COUNTRY : getCountryV6(v6[0], v6[1]);
+    }
+
+    public Country getCountryV6(long high, long low) {
+        LongKeyCache<Object> cache = cache(COUNTRY, true);
+        Object value = cache.get(high, low);
+        if (value == null) cache.put(high, low, value = service.getCountryV6(high, low));
+        return (Country) value;
+    }
+
+    public int getID(String ipAddress) {
+        long ipnum = service.toIPv4(ipAddress);
+        return ipnum < 0 ? 0 : getID(ipnum);
+    }
+
+    public int getID(long ipAddress) {
+        LongKeyCache<Object> cache = cache(ID, false);
+        // MIN_VALUE marks a miss, an ID of MIN_VALUE is merely never a hit
+        int id = cache.getInt(ipAddress, Integer.MIN_VALUE);
+        if (id == Integer.MIN_VALUE) cache.putInt(ipAddress, id = service.getID(ipAddress));
+        return id;
+    }
+
+    public Location getLocation(String str) {
+        long ipnum = service.toIPv4(str);
+        return ipnum < 0 ? null : getLocation(ipnum);
+    }
+
+    public Location getLocation(long ipnum) {
+        LongKeyCache<Object> cache = cache(LOCATION, false);
+        Object value = cache.get(ipnum);
+        if (value == null) cache.put(ipnum, value = orNone(service.getLocation(ipnum)));
+        return value == NONE ? null : (Location) value;
+    }
+
+    public Location getLocationV6(String str) {
+        long[] v6 = service.toIPv6(str);
+        return v6 == null ? null : getLocationV6(v6[0], v6[1]);
+    }
+
+    public Location getLocationV6(long high, long low) {
+        LongKeyCache<Object> cache = cache(LOCATION, true);
+        Object value = cache.get(high, low);
+        if (value == null) cache.put(high, low, value = orNone(service.getLocationV6(high, low)));
+        return value == NONE ? null : (Location) value;
+    }
+
+    public String getOrg(String str) {
+        long ipnum = service.toIPv4(str);
+        return ipnum < 0 ? null : getOrg(ipnum);
+    }
+
+    public String getOrg(long ipnum) {
+        LongKeyCache<Object> cache = cache(ORG, false);
+        Object value = cache.get(ipnum);
+        if (value == null) cache.put(ipnum, value = orNone(service.getOrg(ipnum)));
+        return value == NONE ? null : (String) value;
+    }
+
+    public String getOrgV6(String str) {
+        long[] v6 = service.toIPv6(str);
+        return v6 == null ? null : getOrgV6(v6[0], v6[1]);
+    }
+
+    public String getOrgV6(long high, long low) {
+        LongKeyCache<Object> cache = cache(ORG, true);
+        Object value = cache.get(high, low);
+        if (value == null) cache.put(high, low, value = orNone(service.getOrgV6(high, low)));
+        return value == NONE ? null : (String) value;
+    }
+
+    private LongKeyCache<Object> cache(int kind, boolean v6) {
+        int index = 2 * kind + (v6 ? 1 : 0);
+        LongKeyCache<Object> cache = caches.get(index);
+        if (cache == null) {
+            caches.compareAndSet(index, null, new LongKeyCache<Object>(maxEntries, policy));
+            cache = caches.get(index);
+        }
+        return cache;
+    }
+
+    private static Object orNone(Object value) {
+        return value == null ? NONE : value;
+    }
+}
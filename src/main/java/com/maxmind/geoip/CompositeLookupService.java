@@ -0,0 +1,176 @@
+package com.maxmind.geoip;
+
+/**
+ * Looks an address up in several databases of different editions at once,
+ * for example City, ASNum, ISP and NetSpeed. The address is parsed a single
+ * time, the databases are searched back to back and everything ends up in
+ * one CompositeResult.
+ *
+ * <pre>
+ * CompositeLookupService composite = new CompositeLookupService(
+ *         new LookupService(&quot;GeoIPCity.dat&quot;, LookupService.DBType.MEMORY_CACHE),
+ *         new LookupService(&quot;GeoIPASNum.dat&quot;, LookupService.DBType.MEMORY_CACHE));
+ * CompositeResult result = composite.lookup(&quot;64.17.254.216&quot;);
+ * System.out.println(result.location.city + &quot; &quot; + result.asNum);
+ * </pre>
+ */
+public class CompositeLookupService {
+
+    private static final int COUNTRY = 0;
+    private static final int REGION = 1;
+    private static final int LOCATION = 2;
+    private static final int ORG = 3;
+    private static final int ISP = 4;
+    private static final int DOMAIN = 5;
+    private static final int ASNUM = 6;
+    private static final int NETSPEED = 7;
+    private static final int NETSPEED_ID = 8;
+
+    private final LookupService[] services;
+    private final int[] fields;
+    private final boolean[] ipv6;
+
+    /**
+     * @param services
+     *            the databases to consult, at most one per kind of result.
+     * @throws IllegalArgumentException
+     *             for an edition that does not fit a CompositeResult field,
+     *             or two databases filling the same field.
+     */
+    public CompositeLookupService(LookupService... services) {
+        if (services.length == 0) throw new IllegalArgumentException("No lookup services given");
+        this.services = services.clone();
+        this.fields = new int[services.length];
+        this.ipv6 = new boolean[services.length];
+        boolean[] taken = new boolean[NETSPEED_ID + 1];
+        for (int i = 0; i < services.length; i++) {
+            DatabaseInfo dbInfo = services[i].getDatabaseInfo();
+            fields[i] = field(dbInfo.databaseType);
+            ipv6[i] = dbInfo.isIPv6();
+            if (taken[fields[i]]) throw new IllegalArgumentException("Two databases for the same result field: " + dbInfo.databaseType);
+            taken[fields[i]] = true;
+        }
+    }
+
+    private static int field(int databaseType) {
+        switch (databaseType) {
+            case DatabaseInfo.COUNTRY_EDITION:
+            case DatabaseInfo.COUNTRY_EDITION_V6:
+                return COUNTRY;
+            case DatabaseInfo.REGION_EDITION_REV0:
+            case DatabaseInfo.REGION_EDITION_REV1:
+                return REGION;
+            case DatabaseInfo.CITY_EDITION_REV0:
+            case DatabaseInfo.CITY_EDITION_REV1:
+            case DatabaseInfo.CITY_EDITION_REV0_V6:
+            case DatabaseInfo.CITY_EDITION_REV1_V6:
+                return LOCATION;
+            case DatabaseInfo.ORG_EDITION:
+            case DatabaseInfo.ORG_EDITION_V6:
+                return ORG;
+            case DatabaseInfo.ISP_EDITION:
+            case DatabaseInfo.ISP_EDITION_V6:
+                return ISP;
+            case DatabaseInfo.DOMAIN_EDITION:
+            case DatabaseInfo.DOMAIN_EDITION_V6:
+                return DOMAIN;
+            case DatabaseInfo.ASNUM_EDITION:
+            case DatabaseInfo.ASNUM_EDITION_V6:
+                return ASNUM;
+            case DatabaseInfo.NETSPEED_EDITION_REV1:
+            case DatabaseInfo.NETSPEED_EDITION_REV1_V6:
+                return NETSPEED;
+            case DatabaseInfo.NETSPEED_EDITION:
+                return NETSPEED_ID;
+            default:
+                throw new IllegalArgumentException("Unsupported database edition " + databaseType);
+        }
+    }
+
+    /**
+     * Looks up an IPv4 or IPv6 address in every database. IPv4 addresses are
+     * looked up as ::a.b.c.d in IPv6 databases. IPv4-mapped and
+     * IPv4-compatible IPv6 addresses are looked up in IPv4 databases as their
+     * IPv4 address; other IPv6 addresses skip the IPv4 databases and leave
+     * their fields unset.
+     *
+     * @param ipAddress
+     *            the address, i.e. "64.17.254.216" or "2001:200::".
+     * @return the combined result, null if the address could not be parsed.
+     */
+    public CompositeResult lookup(String ipAddress) {
+        long[] v6 = services[0].toIPv6(ipAddress);
+        return v6 == null ? null : lookupV6(v6[0], v6[1]);
+    }
+
+    /**
+     * Looks up an IPv4 address in every database.
+     *
+     * @param ipAddress
+     *            the IP address in long format.
+     */
+    public CompositeResult lookup(long ipAddress) {
+        return lookup(ipAddress, 0, ipAddress);
+    }
+
+    /**
+     * Looks up an IPv6 address in every database.
+     *
+     * @param high
+     *            the high 64 bits of the IPv6 address.
+     * @param low
+     *            the low 64 bits of the IPv6 address.
+     */
+    public CompositeResult lookupV6(long high, long low) {
+        // IPv4-compatible ::a.b.c.d and IPv4-mapped ::ffff:a.b.c.d
+        boolean ipv4 = high == 0 && ((low >>> 32) == 0 || (low >>> 32) == 0xFFFF);
+        return lookup(ipv4 ? low & 0xFFFFFFFFL : -1, high, low);
+    }
+
+    /**
+     * @param ipnum
+     *            the IPv4 address, -1 if the address has none.
+     */
+    private CompositeResult lookup(long ipnum, long high, long low) {
+        CompositeResult result = new CompositeResult();
+        for (int i = 0; i < services.length; i++) {
+            // an IPv4 database knows nothing about native IPv6 addresses
+            if (ipnum < 0 && !ipv6[i]) continue;
+            LookupService service = services[i];
+            switch (fields[i]) {
+                case COUNTRY:
+                    result.country = ipv6[i] ? service.getCountryV6(high, low) : service.getCountry(ipnum);
+                    break;
+                case REGION:
+                    result.region = service.getRegion(ipnum);
+                    break;
+                case LOCATION:
+                    result.location = ipv6[i] ? service.getLocationV6(high, low) : service.getLocation(ipnum);
+                    break;
+                case ORG:
+                    result.org = getOrg(i, ipnum, high, low);
+                    break;
+                case ISP:
+                    result.isp = getOrg(i, ipnum, high, low);
+                    break;
+                case DOMAIN:
+                    result.domain = getOrg(i, ipnum, high, low);
+                    break;
+                case ASNUM:
+                    result.asNum = getOrg(i, ipnum, high, low);
+                    break;
+                case NETSPEED:
+                    result.netSpeed = getOrg(i, ipnum, high, low);
+                    break;
+                case NETSPEED_ID:
+                    result.netSpeedId = service.getID(ipnum);
+                    break;
+            }
+        }
+        return result;
+    }
+
+    private String getOrg(int i, long ipnum, long high, long low) {
+        return ipv6[i] ? services[i].getOrgV6(high, low) : services[i].getOrg(ipnum);
+    }
+}
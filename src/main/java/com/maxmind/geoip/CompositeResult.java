@@ -0,0 +1,27 @@
+package com.maxmind.geoip;
+
+/**
+ * Everything a CompositeLookupService found out about one address. Fields of
+ * editions the service was not given, or that do not know the address, are
+ * null (netSpeedId is 0).
+ */
+public class CompositeResult {
+    /** from a Country edition */
+    public Country country;
+    /** from a Region edition */
+    public Region region;
+    /** from a City edition */
+    public Location location;
+    /** from an Organization edition */
+    public String org;
+    /** from an ISP edition */
+    public String isp;
+    /** from a Domain edition */
+    public String domain;
+    /** from an ASNum edition */
+    public String asNum;
+    /** from a NetSpeed revision 1 edition */
+    public String netSpeed;
+    /** from a NetSpeed edition, the code LookupService.getID returns */
+    public int netSpeedId;
+}
@@ -21,14 +21,14 @@
 package com.maxmind.geoip;
 
 /**
- * Represents a country.
+ * Represents a country. Instances are immutable and shared between lookups.
  * 
  * @author Matt Tucker
  */
 public class Country {
 
-	private String code;
-	private String name;
+	private final String code;
+	private final String name;
 
 	/**
 	 * Creates a new Country.
@@ -0,0 +1,314 @@
+package com.maxmind.geoip;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles CSV files into a database in the binary format read by
+ * {@link LookupService}.
+ * <p>
+ *
+ * Each line starts with an address range, as two addresses or two decimal
+ * numbers, or with a single network in CIDR notation. Lines such as those
+ * of GeoIPCountryWhois.csv that give the range both ways use the addresses
+ * and skip the numbers. The rest of the line is the value, depending on the
+ * edition:
+ *
+ * <pre>
+ * country                   code
+ * proxy, netspeed           number
+ * region                    country code, region
+ * city                      country code, region, city, latitude, longitude,
+ *                           postal code, metro code, area code
+ * org, ISP, domain, ASNum,
+ * netspeed rev1             name
+ * </pre>
+ *
+ * Ranges are split into the fewest networks that cover them. Lines are
+ * read one at a time, so memory is bounded by the size of the database and
+ * not of the input. Files compiled later override the ranges they share
+ * with earlier ones, which lays private ranges over a published database:
+ *
+ * <pre>
+ * DatabaseCompiler compiler = new DatabaseCompiler(DatabaseInfo.ORG_EDITION);
+ * compiler.compile(Paths.get(&quot;GeoIPOrg.csv&quot;));
+ * compiler.compile(Paths.get(&quot;datacenters.csv&quot;));
+ * compiler.write(Paths.get(&quot;GeoIPOrg.dat&quot;));
+ * </pre>
+ *
+ * Blank lines and lines starting with # are skipped.
+ */
+public class DatabaseCompiler {
+
+    private static final BigInteger ONE = BigInteger.ONE;
+
+    private final DatabaseWriter writer;
+    private final List<String> fields = new ArrayList<String>();
+    private final long[] v6 = new long[2];
+
+    /**
+     * @param databaseType
+     *            one of the edition constants of {@link DatabaseInfo}.
+     */
+    public DatabaseCompiler(int databaseType) {
+        writer = new DatabaseWriter(databaseType);
+    }
+
+    /**
+     * Compiles CSV files into a database.
+     *
+     * <pre>
+     * java com.maxmind.geoip.DatabaseCompiler COUNTRY_EDITION GeoIP.dat GeoIP.csv [overlay.csv ...]
+     * </pre>
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: DatabaseCompiler <edition> <database> <csv> [<csv> ...]");
+            System.exit(1);
+        }
+        DatabaseCompiler compiler = new DatabaseCompiler(DatabaseInfo.class.getField(args[0]).getInt(null));
+        for (int i = 2; i < args.length; i++) {
+            compiler.compile(Paths.get(args[i]));
+        }
+        compiler.write(Paths.get(args[1]));
+    }
+
+    /**
+     * Adds the ranges of a CSV file in ISO-8859-1, the encoding of the
+     * published files.
+     */
+    public void compile(Path csv) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(csv, StandardCharsets.ISO_8859_1)) {
+            compile(in);
+        }
+    }
+
+    /**
+     * Adds the ranges of CSV text.
+     *
+     * @throws IOException
+     *             if reading fails or a line cannot be parsed.
+     */
+    public void compile(Reader csv) throws IOException {
+        BufferedReader in = csv instanceof BufferedReader ? (BufferedReader) csv : new BufferedReader(csv);
+        int number = 0;
+        String line;
+        while ((line = in.readLine()) != null) {
+            number++;
+            if (line.trim().isEmpty() || line.startsWith("#")) continue;
+            try {
+                compileLine(line);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("line " + number + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    public void write(Path database) throws IOException {
+        writer.write(database);
+    }
+
+    private void compileLine(String line) {
+        split(line, fields);
+        int slash = fields.get(0).indexOf('/');
+        if (slash >= 0) {
+            String address = fields.get(0).substring(0, slash);
+            int prefixLength = Integer.parseInt(fields.get(0).substring(slash + 1).trim());
+            BigInteger start = address(address);
+            int bits = writer.isIPv6() ? 128 : 32;
+            if (prefixLength < 0 || prefixLength > bits) throw new IllegalArgumentException("Invalid prefix length: " + prefixLength);
+            BigInteger size = ONE.shiftLeft(bits - prefixLength);
+            if (start.getLowestSetBit() >= 0 && start.getLowestSetBit() < bits - prefixLength) {
+                throw new IllegalArgumentException("Address has bits set below the prefix: " + fields.get(0));
+            }
+            insertRange(start, start.add(size).subtract(ONE), value(1));
+            return;
+        }
+        if (fields.size() < 3) throw new IllegalArgumentException("Expected a range and a value");
+        int first = 2;
+        if (!isNumber(fields.get(0)) && fields.size() > 4 && isNumber(fields.get(2)) && isNumber(fields.get(3))) {
+            first = 4;
+        }
+        insertRange(address(fields.get(0)), address(fields.get(1)), value(first));
+    }
+
+    private Object value(int first) {
+        if (fields.size() <= first) throw new IllegalArgumentException("Missing value");
+        if (writer.storesLocations()) {
+            Location location = new Location();
+            location.countryCode = emptyToNull(field(first));
+            location.region = emptyToNull(field(first + 1));
+            location.city = emptyToNull(field(first + 2));
+            location.latitude = Float.parseFloat(field(first + 3));
+            location.longitude = Float.parseFloat(field(first + 4));
+            location.postalCode = emptyToNull(field(first + 5));
+            location.metro_code = number(field(first + 6));
+            location.area_code = number(field(first + 7));
+            return location;
+        }
+        if (!writer.storesValues()) {
+            return field(first);
+        }
+        switch (writer.getDatabaseType()) {
+            case DatabaseInfo.PROXY_EDITION:
+            case DatabaseInfo.NETSPEED_EDITION:
+                return number(field(first));
+            case DatabaseInfo.REGION_EDITION_REV0:
+            case DatabaseInfo.REGION_EDITION_REV1:
+                return region(field(first), field(first + 1));
+            default:
+                return countryIndex(field(first));
+        }
+    }
+
+    private String field(int i) {
+        return i < fields.size() ? fields.get(i) : "";
+    }
+
+    /*
+     * The inverse of the decoding in LookupService.getRegion.
+     */
+    private int region(String countryCode, String region) {
+        boolean letters = region.length() == 2 && isLetter(region.charAt(0)) && isLetter(region.charAt(1));
+        int code = letters ? (region.charAt(0) - 'A') * 26 + (region.charAt(1) - 'A') : 0;
+        if (writer.getDatabaseType() == DatabaseInfo.REGION_EDITION_REV0) {
+            return "US".equals(countryCode) && letters ? 1000 + code : countryIndex(countryCode);
+        }
+        if (countryCode.isEmpty()) return 0;
+        if ("US".equals(countryCode) && letters) return LookupService.US_OFFSET + code;
+        if ("CA".equals(countryCode) && letters) return LookupService.CANADA_OFFSET + code;
+        return LookupService.WORLD_OFFSET + countryIndex(countryCode) * LookupService.FIPS_RANGE;
+    }
+
+    private static int countryIndex(String countryCode) {
+        return countryCode.isEmpty() ? 0 : DatabaseWriter.countryIndex(countryCode);
+    }
+
+    private static boolean isLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    /*
+     * Splits a range into the largest aligned networks within it, from the
+     * start upwards.
+     */
+    private void insertRange(BigInteger start, BigInteger end, Object value) {
+        int bits = writer.isIPv6() ? 128 : 32;
+        if (start.compareTo(end) > 0) throw new IllegalArgumentException("Range ends before it starts");
+        if (end.bitLength() > bits) throw new IllegalArgumentException("Range ends past the address space");
+        while (start.compareTo(end) <= 0) {
+            int size = start.signum() == 0 ? bits : Math.min(start.getLowestSetBit(), bits);
+            while (start.add(ONE.shiftLeft(size)).subtract(ONE).compareTo(end) > 0) size--;
+            if (size == bits) {
+                // the whole address space, as its two halves
+                insert(start, 1, value);
+                insert(start.setBit(bits - 1), 1, value);
+            } else {
+                insert(start, bits - size, value);
+            }
+            start = start.add(ONE.shiftLeft(size));
+        }
+    }
+
+    private void insert(BigInteger network, int prefixLength, Object value) {
+        if (writer.isIPv6()) {
+            long high = network.shiftRight(64).longValue();
+            long low = network.longValue();
+            if (value instanceof Integer) {
+                writer.insertV6(high, low, prefixLength, (Integer) value);
+            } else if (value instanceof Location) {
+                writer.insertV6(high, low, prefixLength, (Location) value);
+            } else {
+                writer.insertV6(high, low, prefixLength, (String) value);
+            }
+        } else {
+            long ipnum = network.longValue();
+            if (value instanceof Integer) {
+                writer.insert(ipnum, prefixLength, (Integer) value);
+            } else if (value instanceof Location) {
+                writer.insert(ipnum, prefixLength, (Location) value);
+            } else {
+                writer.insert(ipnum, prefixLength, (String) value);
+            }
+        }
+    }
+
+    /*
+     * An address as text, or as a decimal number.
+     */
+    private BigInteger address(String s) {
+        s = s.trim();
+        if (isNumber(s)) {
+            BigInteger number = new BigInteger(s);
+            if (number.bitLength() > (writer.isIPv6() ? 128 : 32)) throw new IllegalArgumentException("Invalid address: " + s);
+            return number;
+        }
+        if (!writer.isIPv6()) {
+            long ipnum = AddressParser.parseIPv4(s);
+            if (ipnum < 0) throw new IllegalArgumentException("Invalid IPv4 address: " + s);
+            return BigInteger.valueOf(ipnum);
+        }
+        if (!AddressParser.parseIPv6(s, v6)) throw new IllegalArgumentException("Invalid IPv6 address: " + s);
+        return unsigned(v6[0]).shiftLeft(64).or(unsigned(v6[1]));
+    }
+
+    private static BigInteger unsigned(long value) {
+        BigInteger b = BigInteger.valueOf(value & Long.MAX_VALUE);
+        return value < 0 ? b.setBit(63) : b;
+    }
+
+    private static boolean isNumber(String s) {
+        if (s.isEmpty()) return false;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) < '0' || s.charAt(i) > '9') return false;
+        }
+        return true;
+    }
+
+    private static int number(String s) {
+        return s.isEmpty() ? 0 : Integer.parseInt(s.trim());
+    }
+
+    private static String emptyToNull(String s) {
+        return s.isEmpty() ? null : s;
+    }
+
+    /*
+     * Splits a CSV line. Fields may be quoted, with "" standing for a quote
+     * within them.
+     */
+    private static void split(String line, List<String> fields) {
+        fields.clear();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+    }
+}
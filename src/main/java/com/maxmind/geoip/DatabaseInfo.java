@@ -153,6 +153,40 @@ public class DatabaseInfo {
         return databaseType;
     }
 
+    /**
+     * Returns true for the editions whose search tree is keyed by 128 bit
+     * IPv6 addresses.
+     *
+     * @return true if the database is an IPv6 edition.
+     */
+    public boolean isIPv6() {
+        return isIPv6(databaseType);
+    }
+
+    /**
+     * Returns true if an edition's search tree is keyed by 128 bit IPv6
+     * addresses.
+     *
+     * @param databaseType
+     *            one of the edition constants.
+     * @return true for the IPv6 editions.
+     */
+    public static boolean isIPv6(int databaseType) {
+        switch (databaseType) {
+            case COUNTRY_EDITION_V6:
+            case ASNUM_EDITION_V6:
+            case ISP_EDITION_V6:
+            case ORG_EDITION_V6:
+            case DOMAIN_EDITION_V6:
+            case CITY_EDITION_REV1_V6:
+            case CITY_EDITION_REV0_V6:
+            case NETSPEED_EDITION_REV1_V6:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Returns true if the database is the premium version.
      *
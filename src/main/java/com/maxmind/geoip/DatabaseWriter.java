@@ -0,0 +1,369 @@
+package com.maxmind.geoip;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes databases in the binary format read by {@link LookupService}.
+ * <p>
+ *
+ * Networks are inserted into an in-memory search tree, a network inserted
+ * later overriding the part of an earlier one it covers. The value stored
+ * for a network depends on the edition: a plain number for the country,
+ * proxy, netspeed and region editions, a Location for the city editions and
+ * a string for the org, ISP, domain, ASNum and netspeed rev1 editions. Equal
+ * records are stored once. {@link #write(Path)} merges subtrees that resolve
+ * to a single value and lays the tree out breadth first, so the nodes near
+ * the root share pages.
+ *
+ * <pre>
+ * DatabaseWriter writer = new DatabaseWriter(DatabaseInfo.COUNTRY_EDITION);
+ * writer.insert(AddressParser.parseIPv4(&quot;12.87.118.0&quot;), 23,
+ *         DatabaseWriter.countryIndex(&quot;US&quot;));
+ * writer.write(Paths.get(&quot;GeoIP.dat&quot;));
+ * </pre>
+ */
+public class DatabaseWriter {
+
+    private static final int EMPTY = 0;
+    private static final int INITIAL_NODES = 1024;
+    // three bytes, below the FF FF FF marker in front of the structure info
+    private static final int MAX_SEGMENT = 0xFFFFFE;
+
+    private final int databaseType;
+    private final boolean ipv6;
+    private final int recordLength;
+    // the fixed segment of the editions storing values in the tree, 0 for
+    // the editions storing records after it
+    private final int valueSegment;
+    private final boolean locations;
+
+    // children are EMPTY, a node index or ~value for a leaf
+    private int[] left = new int[INITIAL_NODES];
+    private int[] right = new int[INITIAL_NODES];
+    private int nodes = 1;
+
+    // records start at offset 1, so no leaf points at the segment itself
+    private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+    private final Map<ByteBuffer, Integer> recordOffsets = new HashMap<ByteBuffer, Integer>();
+
+    /**
+     * @param databaseType
+     *            one of the edition constants of {@link DatabaseInfo}.
+     */
+    public DatabaseWriter(int databaseType) {
+        this.databaseType = databaseType;
+        switch (databaseType) {
+            case DatabaseInfo.COUNTRY_EDITION:
+            case DatabaseInfo.COUNTRY_EDITION_V6:
+            case DatabaseInfo.PROXY_EDITION:
+            case DatabaseInfo.NETSPEED_EDITION:
+                valueSegment = LookupService.COUNTRY_BEGIN;
+                break;
+            case DatabaseInfo.REGION_EDITION_REV0:
+                valueSegment = LookupService.STATE_BEGIN_REV0;
+                break;
+            case DatabaseInfo.REGION_EDITION_REV1:
+                valueSegment = LookupService.STATE_BEGIN_REV1;
+                break;
+            case DatabaseInfo.CITY_EDITION_REV0:
+            case DatabaseInfo.CITY_EDITION_REV1:
+            case DatabaseInfo.CITY_EDITION_REV0_V6:
+            case DatabaseInfo.CITY_EDITION_REV1_V6:
+            case DatabaseInfo.ASNUM_EDITION:
+            case DatabaseInfo.ASNUM_EDITION_V6:
+            case DatabaseInfo.NETSPEED_EDITION_REV1:
+            case DatabaseInfo.NETSPEED_EDITION_REV1_V6:
+            case DatabaseInfo.ORG_EDITION:
+            case DatabaseInfo.ORG_EDITION_V6:
+            case DatabaseInfo.ISP_EDITION:
+            case DatabaseInfo.ISP_EDITION_V6:
+            case DatabaseInfo.DOMAIN_EDITION:
+            case DatabaseInfo.DOMAIN_EDITION_V6:
+                valueSegment = 0;
+                records.write(0);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported database type: " + databaseType);
+        }
+        switch (databaseType) {
+            case DatabaseInfo.ORG_EDITION:
+            case DatabaseInfo.ORG_EDITION_V6:
+            case DatabaseInfo.ISP_EDITION:
+            case DatabaseInfo.ISP_EDITION_V6:
+            case DatabaseInfo.DOMAIN_EDITION:
+            case DatabaseInfo.DOMAIN_EDITION_V6:
+                recordLength = DatabaseInfo.ORG_RECORD_LENGTH;
+                break;
+            default:
+                recordLength = DatabaseInfo.STANDARD_RECORD_LENGTH;
+        }
+        locations = databaseType == DatabaseInfo.CITY_EDITION_REV0 || databaseType == DatabaseInfo.CITY_EDITION_REV1
+                || databaseType == DatabaseInfo.CITY_EDITION_REV0_V6 || databaseType == DatabaseInfo.CITY_EDITION_REV1_V6;
+        ipv6 = DatabaseInfo.isIPv6(databaseType);
+    }
+
+    /**
+     * Returns the index of a country code as stored by the country editions
+     * and the city records.
+     *
+     * @throws IllegalArgumentException
+     *             if the code is unknown.
+     */
+    public static int countryIndex(String code) {
+        for (int i = 0; i < LookupService.countryCode.length; i++) {
+            if (LookupService.countryCode[i].equals(code)) return i;
+        }
+        throw new IllegalArgumentException("Unknown country code: " + code);
+    }
+
+    public int getDatabaseType() {
+        return databaseType;
+    }
+
+    boolean isIPv6() {
+        return ipv6;
+    }
+
+    boolean storesValues() {
+        return valueSegment != 0;
+    }
+
+    boolean storesLocations() {
+        return locations;
+    }
+
+    /**
+     * Stores a value for an IPv4 network in the country, proxy, netspeed or
+     * region editions. The value is what the lookup subtracts the segment
+     * from: a country index, a netspeed, or an encoded region.
+     */
+    public void insert(long network, int prefixLength, int value) {
+        requireValue(value);
+        insertIPv4(network, prefixLength, value);
+    }
+
+    /**
+     * Stores a location for an IPv4 network in the city editions.
+     */
+    public void insert(long network, int prefixLength, Location location) {
+        insertIPv4(network, prefixLength, record(location));
+    }
+
+    /**
+     * Stores a string for an IPv4 network in the org, ISP, domain, ASNum and
+     * netspeed rev1 editions.
+     */
+    public void insert(long network, int prefixLength, String name) {
+        insertIPv4(network, prefixLength, record(name));
+    }
+
+    public void insertV6(long high, long low, int prefixLength, int value) {
+        requireValue(value);
+        insertIPv6(high, low, prefixLength, value);
+    }
+
+    public void insertV6(long high, long low, int prefixLength, Location location) {
+        insertIPv6(high, low, prefixLength, record(location));
+    }
+
+    public void insertV6(long high, long low, int prefixLength, String name) {
+        insertIPv6(high, low, prefixLength, record(name));
+    }
+
+    private void requireValue(int value) {
+        if (valueSegment == 0) {
+            throw new IllegalArgumentException("Database type " + databaseType + " stores records, not values");
+        }
+        if (value > MAX_SEGMENT - valueSegment) throw new IllegalArgumentException("Invalid value: " + value);
+    }
+
+    private void insertIPv4(long network, int prefixLength, int value) {
+        if (ipv6) throw new IllegalArgumentException("Database type " + databaseType + " is keyed by IPv6 addresses");
+        if (prefixLength < 1 || prefixLength > 32) throw new IllegalArgumentException("Invalid prefix length: " + prefixLength);
+        insert(network << 32, 0, prefixLength, value);
+    }
+
+    private void insertIPv6(long high, long low, int prefixLength, int value) {
+        if (!ipv6) throw new IllegalArgumentException("Database type " + databaseType + " is keyed by IPv4 addresses");
+        if (prefixLength < 1 || prefixLength > 128) throw new IllegalArgumentException("Invalid prefix length: " + prefixLength);
+        insert(high, low, prefixLength, value);
+    }
+
+    /*
+     * Walks down to the network, splitting leaves on the way so the rest of
+     * their range keeps its value, and replaces whatever was below it.
+     */
+    private void insert(long high, long low, int prefixLength, int value) {
+        if (value < 0) throw new IllegalArgumentException("Invalid value: " + value);
+        int node = 0;
+        for (int depth = 0; depth < prefixLength - 1; depth++) {
+            boolean one = bit(high, low, depth);
+            int child = one ? right[node] : left[node];
+            if (child <= 0) {
+                int split = allocate(child);
+                if (one) right[node] = split; else left[node] = split;
+                child = split;
+            }
+            node = child;
+        }
+        // value 0 is what an empty leaf points at anyway, so let them merge
+        int leaf = valueSegment != 0 && value == 0 ? EMPTY : ~value;
+        if (bit(high, low, prefixLength - 1)) right[node] = leaf; else left[node] = leaf;
+    }
+
+    private static boolean bit(long high, long low, int depth) {
+        return depth < 64 ? (high << depth) < 0 : (low << (depth - 64)) < 0;
+    }
+
+    private int allocate(int child) {
+        if (nodes == left.length) {
+            left = Arrays.copyOf(left, nodes * 2);
+            right = Arrays.copyOf(right, nodes * 2);
+        }
+        left[nodes] = child;
+        right[nodes] = child;
+        return nodes++;
+    }
+
+    private int record(Location location) {
+        if (!locations) throw new IllegalArgumentException("Database type " + databaseType + " does not store locations");
+        ByteArrayOutputStream out = new ByteArrayOutputStream(LookupService.FULL_RECORD_LENGTH);
+        out.write(location.countryCode == null ? 0 : countryIndex(location.countryCode));
+        writeString(out, location.region);
+        writeString(out, location.city);
+        writeString(out, location.postalCode);
+        writeCoordinate(out, location.latitude);
+        writeCoordinate(out, location.longitude);
+        if (databaseType == DatabaseInfo.CITY_EDITION_REV1 && "US".equals(location.countryCode)) {
+            writeNumber(out, location.metro_code * 1000 + location.area_code, 3);
+        }
+        if (out.size() > LookupService.FULL_RECORD_LENGTH) {
+            throw new IllegalArgumentException("Location record longer than " + LookupService.FULL_RECORD_LENGTH + " bytes");
+        }
+        return record(out.toByteArray());
+    }
+
+    private int record(String name) {
+        if (valueSegment != 0 || locations) throw new IllegalArgumentException("Database type " + databaseType + " does not store strings");
+        ByteArrayOutputStream out = new ByteArrayOutputStream(name.length() + 1);
+        writeString(out, name);
+        if (out.size() > LookupService.MAX_ORG_RECORD_LENGTH) {
+            throw new IllegalArgumentException("String record longer than " + LookupService.MAX_ORG_RECORD_LENGTH + " bytes");
+        }
+        return record(out.toByteArray());
+    }
+
+    private int record(byte[] bytes) {
+        ByteBuffer key = ByteBuffer.wrap(bytes);
+        Integer offset = recordOffsets.get(key);
+        if (offset == null) {
+            if (records.size() > Integer.MAX_VALUE - bytes.length) throw new IllegalStateException("Too many records");
+            offset = records.size();
+            records.write(bytes, 0, bytes.length);
+            recordOffsets.put(key, offset);
+        }
+        return offset;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String s) {
+        if (s != null) {
+            byte[] bytes = s.getBytes(StandardCharsets.ISO_8859_1);
+            out.write(bytes, 0, bytes.length);
+        }
+        out.write(0);
+    }
+
+    private static void writeCoordinate(ByteArrayOutputStream out, float coordinate) {
+        writeNumber(out, (int) Math.round((coordinate + 180.0) * 10000), 3);
+    }
+
+    private static void writeNumber(OutputStream out, long value, int length) {
+        try {
+            for (int j = 0; j < length; j++) out.write((int) (value >>> (j * 8)));
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Writes the database to a file, replacing it if it exists.
+     *
+     * @throws IllegalStateException
+     *             if the tree and records do not fit the record length of
+     *             the edition.
+     */
+    public void write(Path path) throws IOException {
+        left[0] = merge(left[0]);
+        right[0] = merge(right[0]);
+
+        // breadth first order, the root first
+        int[] order = new int[nodes];
+        int[] index = new int[nodes];
+        int count = 1;
+        for (int i = 0; i < count; i++) {
+            int node = order[i];
+            if (left[node] > 0) {
+                index[left[node]] = count;
+                order[count++] = left[node];
+            }
+            if (right[node] > 0) {
+                index[right[node]] = count;
+                order[count++] = right[node];
+            }
+        }
+
+        int segment = valueSegment != 0 ? valueSegment : count;
+        long limit = (1L << (8 * recordLength)) - 1;
+        if (valueSegment != 0 ? count > valueSegment : count > MAX_SEGMENT || (long) count + records.size() > limit) {
+            throw new IllegalStateException("Database does not fit in " + recordLength + " byte records");
+        }
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            for (int i = 0; i < count; i++) {
+                int node = order[i];
+                writeNumber(out, pointer(left[node], index, segment), recordLength);
+                writeNumber(out, pointer(right[node], index, segment), recordLength);
+            }
+            records.writeTo(out);
+            // the database info string, then the structure info read by DatabaseInfo
+            out.write(new byte[3]);
+            out.write(("GEO-" + (databaseType + 105) + " " + new SimpleDateFormat("yyyyMMdd").format(new Date())
+                    + " Build 1 DatabaseWriter").getBytes(StandardCharsets.ISO_8859_1));
+            out.write(new byte[] { -1, -1, -1 });
+            // types above 22 do not fit the signed byte with the 105 offset
+            out.write(databaseType + 105 <= Byte.MAX_VALUE ? databaseType + 105 : databaseType);
+            if (valueSegment == 0) writeNumber(out, segment, DatabaseInfo.SEGMENT_RECORD_LENGTH);
+        }
+    }
+
+    /*
+     * Replaces every subtree whose leaves all hold the same value by that
+     * value.
+     */
+    private int merge(int child) {
+        if (child <= 0) return child;
+        int l = merge(left[child]);
+        int r = merge(right[child]);
+        left[child] = l;
+        right[child] = r;
+        return l <= 0 && l == r ? l : child;
+    }
+
+    private long pointer(int child, int[] index, int segment) {
+        if (child > 0) return index[child];
+        if (child == EMPTY) return segment;
+        return (long) segment + ~child;
+    }
+}
@@ -0,0 +1,128 @@
+package com.maxmind.geoip;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * A DIR-24-8 expansion of an IPv4 search tree. The first level is indexed by
+ * the top 24 bits of the address and lives off-heap (64 MB). Networks longer
+ * than /24 are pushed into 256-entry chunks of a second level, so any lookup
+ * costs at most two memory reads. The prefix length of every entry is kept
+ * alongside (another 16 MB off-heap) for lookups that report their network.
+ */
+final class DirectLookupTable {
+
+    private static final int FIRST_LEVEL_BITS = 24;
+    private static final int SECOND_LEVEL_BITS = 32 - FIRST_LEVEL_BITS;
+    private static final int CHUNK_SIZE = 1 << SECOND_LEVEL_BITS;
+
+    // entries >= 0 are leaves, negative entries are ~chunk of the second level
+    private final IntBuffer firstLevel;
+    private final ByteBuffer firstLevelNetmasks;
+    private int[] secondLevel = new int[16 * CHUNK_SIZE];
+    private byte[] secondLevelNetmasks = new byte[16 * CHUNK_SIZE];
+    private int chunks = 0;
+
+    /**
+     * Returns true for the editions whose IPv4 trees are shallow enough to
+     * keep the second level small.
+     */
+    static boolean supports(int databaseType) {
+        switch (databaseType) {
+            case DatabaseInfo.COUNTRY_EDITION:
+            case DatabaseInfo.PROXY_EDITION:
+            case DatabaseInfo.NETSPEED_EDITION:
+            case DatabaseInfo.NETSPEED_EDITION_REV1:
+            case DatabaseInfo.ASNUM_EDITION:
+            case DatabaseInfo.REGION_EDITION_REV0:
+            case DatabaseInfo.REGION_EDITION_REV1:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Expands a decoded search tree.
+     *
+     * @param tree the left and right child of every node.
+     * @param databaseSegment the first pointer value that denotes a leaf.
+     */
+    DirectLookupTable(int[] tree, int databaseSegment) {
+        firstLevel = ByteBuffer.allocateDirect(4 << FIRST_LEVEL_BITS)
+                .order(ByteOrder.nativeOrder()).asIntBuffer();
+        firstLevelNetmasks = ByteBuffer.allocateDirect(1 << FIRST_LEVEL_BITS);
+        expand(tree, databaseSegment, 0, 0, 0);
+        secondLevel = Arrays.copyOf(secondLevel, chunks * CHUNK_SIZE);
+        secondLevelNetmasks = Arrays.copyOf(secondLevelNetmasks, chunks * CHUNK_SIZE);
+    }
+
+    /**
+     * Returns the leaf pointer for an IPv4 address, i.e. what the search tree
+     * walk would return.
+     */
+    int seek(long ipAddress) {
+        int entry = firstLevel.get((int) (ipAddress >>> SECOND_LEVEL_BITS));
+        if (entry >= 0) return entry;
+        return secondLevel[(~entry << SECOND_LEVEL_BITS) | (int) (ipAddress & (CHUNK_SIZE - 1))];
+    }
+
+    /**
+     * Returns the leaf pointer together with the prefix length of the network
+     * it covers, packed as by {@link LookupService#network(int, int)}.
+     */
+    long seekNetwork(long ipAddress) {
+        int index = (int) (ipAddress >>> SECOND_LEVEL_BITS);
+        int entry = firstLevel.get(index);
+        if (entry >= 0) return LookupService.network(entry, firstLevelNetmasks.get(index));
+        index = (~entry << SECOND_LEVEL_BITS) | (int) (ipAddress & (CHUNK_SIZE - 1));
+        return LookupService.network(secondLevel[index], secondLevelNetmasks[index]);
+    }
+
+    private void expand(int[] tree, int databaseSegment, int node, int prefix, int bits) {
+        for (int branch = 0; branch < 2; branch++) {
+            int child = tree[2 * node + branch];
+            int childPrefix = (prefix << 1) | branch;
+            int childBits = bits + 1;
+            if (child >= databaseSegment) {
+                fill(childPrefix, childBits, child);
+            } else if (childBits == 32) {
+                // a malformed tree, the walk gives up here as well
+                fill(childPrefix, childBits, 0);
+            } else {
+                if (childBits == FIRST_LEVEL_BITS) {
+                    firstLevel.put(childPrefix, ~allocateChunk());
+                }
+                expand(tree, databaseSegment, child, childPrefix, childBits);
+            }
+        }
+    }
+
+    private void fill(int prefix, int bits, int leaf) {
+        if (bits <= FIRST_LEVEL_BITS) {
+            int from = prefix << (FIRST_LEVEL_BITS - bits);
+            int to = from + (1 << (FIRST_LEVEL_BITS - bits));
+            for (int i = from; i < to; i++) {
+                firstLevel.put(i, leaf);
+                firstLevelNetmasks.put(i, (byte) bits);
+            }
+        } else {
+            int chunk = ~firstLevel.get(prefix >>> (bits - FIRST_LEVEL_BITS));
+            int shift = 32 - bits;
+            int from = (chunk << SECOND_LEVEL_BITS) | ((prefix << shift) & (CHUNK_SIZE - 1));
+            int to = from + (1 << shift);
+            Arrays.fill(secondLevel, from, to, leaf);
+            Arrays.fill(secondLevelNetmasks, from, to, (byte) bits);
+        }
+    }
+
+    private int allocateChunk() {
+        if ((chunks + 1) * CHUNK_SIZE > secondLevel.length) {
+            secondLevel = Arrays.copyOf(secondLevel, secondLevel.length * 2);
+            secondLevelNetmasks = Arrays.copyOf(secondLevelNetmasks, secondLevelNetmasks.length * 2);
+        }
+        return chunks++;
+    }
+}
@@ -0,0 +1,69 @@
+package com.maxmind.geoip;
+
+/**
+ * A count-min sketch of 4 bit counters estimating how often a key was seen
+ * recently, used for TinyLFU admission. Once the number of increments reaches
+ * ten times the cache capacity all counters are halved, so old popularity
+ * fades.
+ * <p>
+ *
+ * Updates are not atomic. Racing increments may get lost, which only makes
+ * the estimate a little less precise.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L };
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int capacity) {
+        int length = 1;
+        while (length < capacity && length < (1 << 30)) length <<= 1;
+        table = new long[length];
+        tableMask = length - 1;
+        sampleSize = capacity <= Integer.MAX_VALUE / 10 ? 10 * capacity : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the estimated number of recent occurrences of a key, 0 to 15.
+     */
+    int frequency(long hash) {
+        int frequency = 15;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            int offset = (int) (h >>> 60) << 2;
+            frequency = Math.min(frequency, (int) (table[index(h)] >>> offset) & 15);
+        }
+        return frequency;
+    }
+
+    void increment(long hash) {
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            int index = index(h);
+            int offset = (int) (h >>> 60) << 2;
+            if (((table[index] >>> offset) & 15) != 15) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) reset();
+    }
+
+    private int index(long h) {
+        return (int) (h >>> 32) & tableMask;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+}
@@ -0,0 +1,192 @@
+package com.maxmind.geoip;
+
+/**
+ * A bounded concurrent cache keyed by one or two primitive longs, so neither
+ * hits nor misses box their key.
+ * <p>
+ *
+ * The cache is set-associative: a key can only live in the WAYS slots of the
+ * set its hash selects, and eviction picks a victim within that set. Entries
+ * are immutable, so reads take no lock; writes lock the stripe of their set.
+ * <p>
+ *
+ * With {@link CachePolicy#TINY_LFU} the first way of every set is a window
+ * that takes each new entry. The entry pushed out of the window only replaces
+ * the CLOCK victim of the other ways if a FrequencySketch says it has been
+ * asked for more often.
+ */
+final class LongKeyCache<V> {
+
+    private static final int WAYS = 8;
+    private static final int MAX_STRIPES = 64;
+
+    private static class Entry<V> {
+        final long key0;
+        final long key1;
+        final V value;
+
+        Entry(long key0, long key1, V value) {
+            this.key0 = key0;
+            this.key1 = key1;
+            this.value = value;
+        }
+    }
+
+    /* an entry holding an int or long, so numbers are cached without boxing */
+    private static final class NumberEntry<V> extends Entry<V> {
+        final long number;
+
+        NumberEntry(long key0, long key1, long number) {
+            super(key0, key1, null);
+            this.number = number;
+        }
+    }
+
+    private final Entry<V>[] slots;
+    private final byte[] referenced;
+    private final byte[] hands;
+    private final Object[] locks;
+    private final int setMask;
+    private final CachePolicy policy;
+    private final FrequencySketch sketch;
+
+    /**
+     * @param capacity the maximum number of entries, rounded up to a power of two.
+     * @param policy how to pick the entry to evict from a full set.
+     */
+    @SuppressWarnings("unchecked")
+    LongKeyCache(int capacity, CachePolicy policy) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        int sets = 1;
+        while (sets * WAYS < capacity && sets < (1 << 26)) sets <<= 1;
+        this.slots = (Entry<V>[]) new Entry<?>[sets * WAYS];
+        this.referenced = new byte[sets * WAYS];
+        this.hands = new byte[sets];
+        this.locks = new Object[Math.min(sets, MAX_STRIPES)];
+        for (int i = 0; i < locks.length; i++) locks[i] = new Object();
+        this.setMask = sets - 1;
+        this.policy = policy;
+        this.sketch = policy == CachePolicy.TINY_LFU ? new FrequencySketch(sets * WAYS) : null;
+    }
+
+    V get(long key) {
+        return get(0, key);
+    }
+
+    V get(long key0, long key1) {
+        Entry<V> entry = find(key0, key1);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Returns the int stored by {@link #putInt(long, int)}, or missing.
+     */
+    int getInt(long key, int missing) {
+        Entry<V> entry = find(0, key);
+        return entry instanceof NumberEntry ? (int) ((NumberEntry<V>) entry).number : missing;
+    }
+
+    /**
+     * Returns the long stored by {@link #putLong(long, long, long)}, or
+     * missing.
+     */
+    long getLong(long key0, long key1, long missing) {
+        Entry<V> entry = find(key0, key1);
+        return entry instanceof NumberEntry ? ((NumberEntry<V>) entry).number : missing;
+    }
+
+    private Entry<V> find(long key0, long key1) {
+        long hash = hash(key0, key1);
+        if (sketch != null) sketch.increment(hash);
+        int base = ((int) hash & setMask) * WAYS;
+        for (int i = base; i < base + WAYS; i++) {
+            Entry<V> entry = slots[i];
+            if (entry != null && entry.key1 == key1 && entry.key0 == key0) {
+                // only write when the bit changes to keep hits from dirtying the line
+                if (referenced[i] == 0) referenced[i] = 1;
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    void put(long key, V value) {
+        put(0, key, value);
+    }
+
+    void put(long key0, long key1, V value) {
+        put(new Entry<V>(key0, key1, value));
+    }
+
+    void putInt(long key, int number) {
+        put(new NumberEntry<V>(0, key, number));
+    }
+
+    void putLong(long key0, long key1, long number) {
+        put(new NumberEntry<V>(key0, key1, number));
+    }
+
+    private void put(Entry<V> entry) {
+        long key0 = entry.key0;
+        long key1 = entry.key1;
+        int set = (int) hash(key0, key1) & setMask;
+        int base = set * WAYS;
+        synchronized (locks[set & (locks.length - 1)]) {
+            for (int i = base; i < base + WAYS; i++) {
+                Entry<V> current = slots[i];
+                if (current != null && current.key1 == key1 && current.key0 == key0) {
+                    slots[i] = entry;
+                    return;
+                }
+            }
+            if (sketch == null) {
+                store(base + victim(set, 0), entry);
+                return;
+            }
+            Entry<V> candidate = slots[base];
+            store(base, entry);
+            if (candidate == null) return;
+            int victim = base + victim(set, 1);
+            Entry<V> current = slots[victim];
+            if (current == null
+                    || sketch.frequency(hash(candidate.key0, candidate.key1)) > sketch.frequency(hash(current.key0, current.key1))) {
+                store(victim, candidate);
+            }
+        }
+    }
+
+    private void store(int slot, Entry<V> entry) {
+        referenced[slot] = 0;
+        slots[slot] = entry;
+    }
+
+    /**
+     * Returns the way to fill among the ways from firstWay on: an empty one,
+     * or else the one the policy evicts. Called with the stripe lock held.
+     */
+    private int victim(int set, int firstWay) {
+        int base = set * WAYS;
+        for (int way = firstWay; way < WAYS; way++) {
+            if (slots[base + way] == null) return way;
+        }
+        int ways = WAYS - firstWay;
+        int hand = hands[set] % ways;
+        if (policy != CachePolicy.FIFO) {
+            // second chance: skip and clear recently referenced entries
+            while (referenced[base + firstWay + hand] != 0) {
+                referenced[base + firstWay + hand] = 0;
+                hand = (hand + 1) % ways;
+            }
+        }
+        hands[set] = (byte) ((hand + 1) % ways);
+        return firstWay + hand;
+    }
+
+    private static long hash(long key0, long key1) {
+        long h = key0 * 0x9E3779B97F4A7C15L ^ key1;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
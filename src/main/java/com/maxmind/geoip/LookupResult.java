@@ -0,0 +1,67 @@
+package com.maxmind.geoip;
+
+/**
+ * The answer to a lookup together with the database network it came from,
+ * like GeoIP_last_netmask in the C API but without state shared between
+ * lookups. Every address of the network gets the same record, so callers
+ * can cache results by network or skip the lookups of addresses they know
+ * to be in it. Instances are immutable.
+ *
+ * @param <T>
+ *            the record type: Country, Region, Location or String.
+ */
+public class LookupResult<T> {
+
+	private final T record;
+	private final Network network;
+
+	LookupResult(T record, Network network) {
+		this.record = record;
+		this.network = network;
+	}
+
+	/**
+	 * Returns the record the address resolved to, or null if the database
+	 * has no data for the network.
+	 */
+	public T getRecord() {
+		return record;
+	}
+
+	/**
+	 * Returns the prefix length of the network the address is in.
+	 */
+	public int getNetmask() {
+		return network.getPrefixLength();
+	}
+
+	/**
+	 * Returns the network the address is in.
+	 */
+	public Network getNetwork() {
+		return network;
+	}
+
+	/**
+	 * Returns true if the IPv4 address is in the network, so a lookup of it
+	 * would give the same record.
+	 */
+	public boolean contains(long ipAddress) {
+		return !network.isIPv6() && (ipAddress >>> (32 - getNetmask())) == (network.getAddress() >>> (32 - getNetmask()));
+	}
+
+	/**
+	 * Returns true if the IPv6 address is in the network.
+	 */
+	public boolean containsV6(long high, long low) {
+		if (!network.isIPv6()) return false;
+		int netmask = getNetmask();
+		if (netmask <= 64) return (high ^ network.getHigh()) >>> (64 - netmask) == 0;
+		return high == network.getHigh() && (low ^ network.getLow()) >>> (128 - netmask) == 0;
+	}
+
+	@Override
+	public String toString() {
+		return network + " " + record;
+	}
+}
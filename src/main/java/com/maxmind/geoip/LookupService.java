@@ -24,12 +24,20 @@ import static java.lang.System.arraycopy;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Provides a lookup service for information based on an IP address. The
@@ -82,8 +90,15 @@ public class LookupService {
     public final static int STATE_BEGIN_REV1 = 16000000;
 
     final static int MAX_RECORD_LENGTH = 4;
+    final static int BATCH_LANES = 16;
 
     final static int MAX_ORG_RECORD_LENGTH = 300;
+    final static int BLOCK_SIZE = 4096;
+    public final static long DEFAULT_BLOCK_CACHE_BYTES = 64L << 20;
+    /* the cache holds at least one set of 8 pages, whatever the budget */
+    public final static long MIN_BLOCK_CACHE_BYTES = 8 * BLOCK_SIZE;
+    /* how long a changed database file has to stay untouched before it is reloaded */
+    final static long RELOAD_QUIET_MILLIS = 1000;
     final static int FULL_RECORD_LENGTH = 60;
     final static Country UNKNOWN_COUNTRY = new Country("--", "N/A");
 
@@ -177,14 +192,36 @@ public class LookupService {
             "Saint Martin", "Bonaire, Saint Eustatius and Saba", "South Sudan",
             "Other" };
 
+    final static Country[] countries = new Country[countryCode.length];
+
     /* check the hashmap once at startup time */
     static {
         if (countryCode.length != countryName.length)
             throw new AssertionError("countryCode.length!=countryName.length");
+        countries[0] = UNKNOWN_COUNTRY;
+        for (int i = 1; i < countries.length; i++)
+            countries[i] = new Country(countryCode[i], countryName[i]);
     }
 
     protected Thread watchThread = null;
 
+    /* scratch space for the IPv6 address of the lookup in progress */
+    private static final ThreadLocal<long[]> V6_ADDRESS = new ThreadLocal<long[]>() {
+        @Override
+        protected long[] initialValue() {
+            return new long[2];
+        }
+    };
+
+    public interface LocationSink {
+        /**
+         * Will be called for every address of a batch lookup.
+         * @param index the position of the address in the batch
+         * @param location the location, null if the address is not in the database
+         */
+        void location(int index, Location location);
+    }
+
     public interface UpdateCallback {
         /**
          * Will be called when the LookupService can be replaced with the updated service.
@@ -194,29 +231,126 @@ public class LookupService {
     }
 
 
+    /**
+     * Gives access to the database file. Readers that go to the disk report
+     * read errors as UncheckedIOException.
+     */
     private interface Reader {
-        void readBuffer(byte[] buffer, int offset, int length);
+        /**
+         * Reads length bytes at offset into buffer. Bytes past the end of the
+         * file read as 0, so a buffer reused across reads, as by the batch
+         * lookups, keeps nothing of an earlier record.
+         */
+        void readBuffer(byte[] buffer, long offset, int length);
+
+        /**
+         * Decodes one child pointer of a search tree node straight from the
+         * backing storage.
+         *
+         * @param node the index of the node.
+         * @param branch 0 for the left child, 1 for the right child.
+         * @param recordLength the size of one pointer in bytes.
+         * @return the child pointer.
+         */
+        int readNode(int node, int branch, int recordLength);
+
         void close();
     }
 
+    /**
+     * Reads the database with positional reads, which are safe to use from
+     * many threads at once. Reads go through a direct buffer per thread, so
+     * the channel does not copy through a temporary native buffer each time.
+     * <p>
+     *
+     * A thread interrupted during a read closes the channel for all threads,
+     * so the read that finds it closed opens it again and retries.
+     */
     private static class FileReader implements Reader {
-        final FileChannel fileChannel;
+        final Path path;
+        volatile FileChannel fileChannel;
+        private boolean closed = false;
+        final ThreadLocal<ByteBuffer> directBuffer = new ThreadLocal<ByteBuffer>() {
+            @Override
+            protected ByteBuffer initialValue() {
+                return ByteBuffer.allocateDirect(MAX_ORG_RECORD_LENGTH);
+            }
+        };
 
         public FileReader(DatabaseInfo dbInfo) throws IOException {
-            fileChannel = FileChannel.open(dbInfo.path, StandardOpenOption.READ);
+            path = dbInfo.path;
+            fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        }
+
+        /**
+         * Reads length bytes at offset into buffer. Bytes past the end of the
+         * file read as 0.
+         *
+         * @throws UncheckedIOException if the file cannot be read.
+         */
+        @Override
+        public void readBuffer(byte[] buffer, long offset, int length) {
+            ByteBuffer direct = read(offset, length);
+            int read = direct.remaining();
+            direct.get(buffer, 0, read);
+            Arrays.fill(buffer, read, length, (byte) 0);
         }
 
         @Override
-        public void readBuffer(byte[] buffer, int offset, int length) {
+        public int readNode(int node, int branch, int recordLength) {
+            ByteBuffer direct = read((2L * node + branch) * recordLength, recordLength);
+            int result = 0;
+            for (int j = 0; direct.hasRemaining(); j++)
+                result |= unsignedByteToInt(direct.get()) << (j * 8);
+            return result;
+        }
+
+        /**
+         * Returns the thread's direct buffer holding the bytes read at offset,
+         * fewer than length at the end of the file.
+         */
+        private ByteBuffer read(long offset, int length) {
+            ByteBuffer direct = directBuffer.get();
+            if (direct.capacity() < length) {
+                direct = ByteBuffer.allocateDirect(length);
+                directBuffer.set(direct);
+            }
+            boolean interrupted = false;
             try {
-                fileChannel.read(ByteBuffer.wrap(buffer), offset);
+                for (;;) {
+                    FileChannel channel = fileChannel;
+                    direct.clear();
+                    direct.limit(length);
+                    try {
+                        readFully(channel, direct, offset);
+                        break;
+                    } catch (ClosedChannelException e) {
+                        // the retry must not be interrupted again, the flag is restored below
+                        interrupted |= Thread.interrupted();
+                        reopen(channel, e);
+                    }
+                }
             } catch (IOException e) {
-                System.out.println("IO Exception");
+                throw new UncheckedIOException("Could not read " + length + " bytes at " + offset + " of the database", e);
+            } finally {
+                if (interrupted) Thread.currentThread().interrupt();
             }
+            direct.flip();
+            return direct;
+        }
+
+        /**
+         * Replaces a channel that an interrupt closed, unless another thread
+         * already did or the reader itself was closed.
+         */
+        private synchronized void reopen(FileChannel failed, ClosedChannelException cause) throws IOException {
+            if (closed) throw cause;
+            if (fileChannel == failed) fileChannel = FileChannel.open(path, StandardOpenOption.READ);
         }
 
         @Override
-        public void close() {
+        public synchronized void close() {
+            closed = true;
             try {
                 fileChannel.close();
             } catch (IOException e) {
@@ -225,55 +359,219 @@ public class LookupService {
         }
     }
 
+    /**
+     * Reads the whole database into the heap. The search tree is additionally
+     * decoded into an int[] holding the left and right child of every node,
+     * so walking it costs one array access per level.
+     */
     private static class MemoryReader implements Reader {
         final byte[] data;
+        final int[] tree;
 
         public MemoryReader(DatabaseInfo dbInfo) throws IOException {
             //Lock file so it's not modified while reading.
             try(FileChannel fileChannel = FileChannel.open(dbInfo.path, StandardOpenOption.READ, StandardOpenOption.WRITE); FileLock lock = fileChannel.lock()){
+                if (fileChannel.size() > Integer.MAX_VALUE - 8) {
+                    throw new IOException("Database exceeds 2 GB, use DBType.OFF_HEAP or DBType.MMAP");
+                }
                 data = new byte[(int) fileChannel.size()];
-                fileChannel.read(ByteBuffer.wrap(data), 0);
+                readFully(fileChannel, ByteBuffer.wrap(data), 0);
             }
+            // Country and region editions have no record section, so the
+            // segment is not the node count there.
+            int nodes = Math.min(dbInfo.databaseSegment, data.length / (2 * dbInfo.recordLength));
+            tree = new int[2 * nodes];
+            for (int i = 0; i < tree.length; i++)
+                tree[i] = decodeRecord(data, i * dbInfo.recordLength, dbInfo.recordLength);
+        }
+
+        @Override
+        public void readBuffer(byte[] buffer, long offset, int length) {
+            int read = offset >= data.length ? 0 : Math.min(data.length - (int) offset, length);
+            if (read > 0) arraycopy(data, (int) offset, buffer, 0, read);
+            Arrays.fill(buffer, read, length, (byte) 0);
+        }
+
+        @Override
+        public int readNode(int node, int branch, int recordLength) {
+            return tree[2 * node + branch];
+        }
+
+        public void close() {}
+    }
+
+    /**
+     * Reads the database from a SegmentedBuffer outside the Java heap, either
+     * mapped from the file (MMAP) or loaded into direct memory (OFF_HEAP).
+     * Mapped pages are shared with the operating system's page cache (and
+     * thereby with every other process mapping the same file). Either way the
+     * memory is released when the buffers are garbage collected, and files
+     * larger than 2 GB are fine.
+     */
+    private static class BufferReader implements Reader {
+        final SegmentedBuffer data;
+
+        public BufferReader(SegmentedBuffer data) {
+            this.data = data;
+        }
+
+        @Override
+        public void readBuffer(byte[] buffer, long offset, int length) {
+            int read = data.get(offset, buffer, length);
+            Arrays.fill(buffer, read, length, (byte) 0);
         }
 
         @Override
-        public void readBuffer(byte[] buffer, int offset, int length) {
-            int maxLen = data.length - offset;
-            arraycopy(data, offset, buffer, 0, maxLen < length ? maxLen : length);
+        public int readNode(int node, int branch, int recordLength) {
+            long offset = (2L * node + branch) * recordLength;
+            int result = 0;
+            for (int j = 0; j < recordLength; j++)
+                result |= unsignedByteToInt(data.get(offset + j)) << (j * 8);
+            return result;
         }
 
         public void close() {}
     }
 
+    /**
+     * A MemoryReader that additionally compiles the search tree into a
+     * DirectLookupTable (IPv4 editions that support it) or a StrideTrie
+     * (IPv6 editions).
+     */
+    private static class CompiledReader extends MemoryReader {
+        final DirectLookupTable ipv4Table;
+        final StrideTrie ipv6Trie;
+
+        public CompiledReader(DatabaseInfo dbInfo) throws IOException {
+            super(dbInfo);
+            ipv4Table = DirectLookupTable.supports(dbInfo.databaseType) ? new DirectLookupTable(tree, dbInfo.databaseSegment) : null;
+            ipv6Trie = StrideTrie.supports(dbInfo.databaseType) ? new StrideTrie(tree, dbInfo.databaseSegment) : null;
+        }
+    }
+
     private static class IndexReader extends FileReader {
         final byte[] index;
 
         public IndexReader(DatabaseInfo dbInfo) throws IOException {
             super(dbInfo);
             index = new byte[dbInfo.databaseSegment * dbInfo.recordLength * 2];
-            fileChannel.read(ByteBuffer.wrap(index), 0);
+            readFully(fileChannel, ByteBuffer.wrap(index), 0);
         }
 
         @Override
-        public void readBuffer(byte[] buffer, int offset, int length) {
-            if((offset + length) <= index.length) arraycopy(index, offset, buffer, 0, length);
+        public void readBuffer(byte[] buffer, long offset, int length) {
+            if((offset + length) <= index.length) arraycopy(index, (int) offset, buffer, 0, length);
             else super.readBuffer(buffer, offset, length);
         }
 
+        @Override
+        public int readNode(int node, int branch, int recordLength) {
+            long offset = (2L * node + branch) * recordLength;
+            if((offset + recordLength) <= index.length) return decodeRecord(index, (int) offset, recordLength);
+            return super.readNode(node, branch, recordLength);
+        }
+
+    }
+
+    /**
+     * Reads the database in pages of BLOCK_SIZE bytes and keeps the pages that
+     * are used most in a W-TinyLFU cache of bounded size. Hot parts of the
+     * search tree and popular records are served from memory while the heap
+     * stays within the budget, whatever the size of the file.
+     */
+    private static class BlockCacheReader extends FileReader {
+        final LongKeyCache<byte[]> pages;
+
+        public BlockCacheReader(DatabaseInfo dbInfo, long cacheBytes) throws IOException {
+            super(dbInfo);
+            if (cacheBytes < MIN_BLOCK_CACHE_BYTES) {
+                close();
+                throw new IllegalArgumentException("BLOCK_CACHE needs at least " + MIN_BLOCK_CACHE_BYTES + " bytes, got " + cacheBytes);
+            }
+            long pageCount = Math.max(1, Math.min(cacheBytes / BLOCK_SIZE, 1 << 30));
+            // the cache rounds its capacity up to a power of two, round down to stay within budget
+            pages = new LongKeyCache<byte[]>(Integer.highestOneBit((int) pageCount), CachePolicy.TINY_LFU);
+        }
+
+        @Override
+        public void readBuffer(byte[] buffer, long offset, int length) {
+            for (int done = 0; done < length; ) {
+                long position = offset + done;
+                int inPage = (int) position & (BLOCK_SIZE - 1);
+                int count = Math.min(length - done, BLOCK_SIZE - inPage);
+                arraycopy(page(position / BLOCK_SIZE), inPage, buffer, done, count);
+                done += count;
+            }
+        }
+
+        @Override
+        public int readNode(int node, int branch, int recordLength) {
+            long offset = (2L * node + branch) * recordLength;
+            int inPage = (int) offset & (BLOCK_SIZE - 1);
+            if (inPage + recordLength > BLOCK_SIZE) {
+                byte[] buf = new byte[MAX_RECORD_LENGTH];
+                readBuffer(buf, offset, recordLength);
+                return decodeRecord(buf, 0, recordLength);
+            }
+            return decodeRecord(page(offset / BLOCK_SIZE), inPage, recordLength);
+        }
+
+        private byte[] page(long index) {
+            byte[] page = pages.get(index);
+            if (page == null) {
+                page = new byte[BLOCK_SIZE];
+                super.readBuffer(page, index * BLOCK_SIZE, BLOCK_SIZE);
+                pages.put(index, page);
+            }
+            return page;
+        }
     }
 
     public enum DBType {
-        File { @Override Reader getReader(DatabaseInfo dbInfo) throws IOException { return new FileReader(dbInfo); } },
-        INDEX_CACHE { @Override Reader getReader(DatabaseInfo dbInfo) throws IOException { return new IndexReader(dbInfo); } },
-        MEMORY_CACHE { @Override Reader getReader(DatabaseInfo dbInfo) throws IOException { return new MemoryReader(dbInfo); } };
+        File { @Override Reader getReader(DatabaseInfo dbInfo, long cacheBytes) throws IOException { return new FileReader(dbInfo); } },
+        INDEX_CACHE { @Override Reader getReader(DatabaseInfo dbInfo, long cacheBytes) throws IOException { return new IndexReader(dbInfo); } },
+        MEMORY_CACHE { @Override Reader getReader(DatabaseInfo dbInfo, long cacheBytes) throws IOException { return new MemoryReader(dbInfo); } },
+        MMAP { @Override Reader getReader(DatabaseInfo dbInfo, long cacheBytes) throws IOException { return new BufferReader(SegmentedBuffer.map(dbInfo.path)); } },
+        /**
+         * Like MEMORY_CACHE, but IPv4 country, region, netspeed and ASNum
+         * databases are expanded into a direct lookup table (about 64 MB
+         * off-heap) answering each lookup with one or two memory reads, and
+         * IPv6 databases into a trie walking 8 bits per step.
+         */
+        COMPILED { @Override Reader getReader(DatabaseInfo dbInfo, long cacheBytes) throws IOException { return new CompiledReader(dbInfo); } },
+        /**
+         * Reads the database from disk in 4 KB pages and keeps the most used
+         * pages in memory, within the budget given to
+         * {@link LookupService#LookupService(Path, DBType, long)}
+         * (DEFAULT_BLOCK_CACHE_BYTES otherwise).
+         */
+        BLOCK_CACHE { @Override Reader getReader(DatabaseInfo dbInfo, long cacheBytes) throws IOException { return new BlockCacheReader(dbInfo, cacheBytes); } },
+        /**
+         * Loads the whole database into direct memory outside the Java heap,
+         * in segments, so databases above 2 GB can be used and the garbage
+         * collector never has to deal with them.
+         */
+        OFF_HEAP { @Override Reader getReader(DatabaseInfo dbInfo, long cacheBytes) throws IOException { return new BufferReader(SegmentedBuffer.load(dbInfo.path)); } };
 
-        abstract Reader getReader(DatabaseInfo dbInfo) throws IOException;
+        abstract Reader getReader(DatabaseInfo dbInfo, long cacheBytes) throws IOException;
     }
 
 
     private final DBType dbType;
+    private final long cacheBytes;
+    private volatile boolean resolveHostnames = false;
+    private volatile LongKeyCache<Location> locationCache = null;
+    private volatile NetworkCache networkCache = null;
+    private volatile StringPool stringPool = null;
+    // the cache settings, handed on to the service a reload creates
+    private volatile int locationCacheSize = 0;
+    private volatile CachePolicy locationCachePolicy = null;
+    private volatile int networkCacheSize = 0;
+    private volatile int stringPoolSize = 0;
     protected final DatabaseInfo dbInfo;
     protected final Reader reader;
+    private final DirectLookupTable ipv4Table;
+    private final StrideTrie ipv6Trie;
 
 
     /**
@@ -324,9 +622,33 @@ public class LookupService {
      *             database file.
      */
     public LookupService(Path databasePath, DBType dbType) throws IOException {
+        this(databasePath, dbType, DEFAULT_BLOCK_CACHE_BYTES);
+    }
+
+    /**
+     * Create a new lookup service using the specified database file and a
+     * memory budget for the {@link DBType#BLOCK_CACHE} page cache.
+     *
+     * @param databasePath
+     *            the database path.
+     * @param dbType
+     *            how to read the database.
+     * @param cacheBytes
+     *            the most memory BLOCK_CACHE spends on cached pages, at least
+     *            MIN_BLOCK_CACHE_BYTES, ignored by the other types.
+     * @throws java.io.IOException
+     *             if an error occured creating the lookup service from the
+     *             database file.
+     * @throws IllegalArgumentException
+     *             if BLOCK_CACHE gets less than MIN_BLOCK_CACHE_BYTES.
+     */
+    public LookupService(Path databasePath, DBType dbType, long cacheBytes) throws IOException {
         this.dbInfo = new DatabaseInfo(databasePath);
-        this.reader = dbType.getReader(dbInfo);
+        this.reader = dbType.getReader(dbInfo, cacheBytes);
         this.dbType = dbType;
+        this.cacheBytes = cacheBytes;
+        this.ipv4Table = reader instanceof CompiledReader ? ((CompiledReader) reader).ipv4Table : null;
+        this.ipv6Trie = reader instanceof CompiledReader ? ((CompiledReader) reader).ipv6Trie : null;
     }
 
 
@@ -334,23 +656,125 @@ public class LookupService {
         reader.close();
     }
 
+    /**
+     * Lets the String lookups fall back to InetAddress.getByName when the
+     * argument is not an IP literal. This is off by default: literals are
+     * parsed directly and anything else is treated as an unknown address.
+     *
+     * @param resolveHostnames
+     *            true to resolve host names.
+     */
+    public void setResolveHostnames(boolean resolveHostnames) {
+        this.resolveHostnames = resolveHostnames;
+    }
+
+    /**
+     * Caches decoded City records by their position in the database, so
+     * addresses sharing a record share one Location and skip reading and
+     * decoding it. The cached Location objects are handed to every caller and
+     * must not be modified.
+     *
+     * @param maxEntries
+     *            the number of records to keep, 0 to disable the cache.
+     * @param policy
+     *            which record to drop when the cache is full.
+     */
+    public void setLocationCache(int maxEntries, CachePolicy policy) {
+        this.locationCache = maxEntries > 0 ? new LongKeyCache<Location>(maxEntries, policy) : null;
+        this.locationCacheSize = maxEntries;
+        this.locationCachePolicy = policy;
+    }
+
+    /**
+     * Makes region, city, postal code and organization strings come from a
+     * pool, so every lookup that finds the same name returns the same String
+     * instance instead of a fresh copy. This cuts the heap used by callers
+     * that keep many results around.
+     *
+     * @param maxEntries
+     *            the number of distinct strings to keep, 0 to disable the
+     *            pool.
+     */
+    public void setStringPool(int maxEntries) {
+        this.stringPool = maxEntries > 0 ? new StringPool(maxEntries) : null;
+        this.stringPoolSize = maxEntries;
+    }
+
+    /**
+     * Caches search tree walks by the network they end in, so a single entry
+     * answers every address of a network. This helps sequential ranges and
+     * scans that a cache by address cannot. COMPILED databases with a direct
+     * lookup table already answer IPv4 lookups faster and skip this cache.
+     *
+     * @param maxEntries
+     *            the number of networks to keep per address family, 0 to
+     *            disable the cache.
+     */
+    public void setNetworkCache(int maxEntries) {
+        this.networkCache = maxEntries > 0 ? new NetworkCache(maxEntries) : null;
+        this.networkCacheSize = maxEntries;
+    }
+
+    /**
+     * Packs a leaf pointer and the prefix length of the network it covers
+     * into the value returned by seekNetwork.
+     */
+    static long network(int seek, int netmask) {
+        return ((long) netmask << 32) | (seek & 0xFFFFFFFFL);
+    }
+
+    static int netmask(long network) {
+        return (int) (network >>> 32);
+    }
+
+    /**
+     * Returns true if a search tree pointer is a leaf. Pointers are unsigned,
+     * so 4 byte records of 2^31 and above are negative ints here.
+     */
+    private boolean isLeaf(int pointer) {
+        return Integer.compareUnsigned(pointer, dbInfo.databaseSegment) >= 0;
+    }
+
+    /**
+     * Returns the file offset of the record a leaf pointer refers to.
+     */
+    private long recordPointer(int seek) {
+        return (seek & 0xFFFFFFFFL) + (2L * dbInfo.recordLength - 1) * dbInfo.databaseSegment;
+    }
+
     private int seekCountry(long ipAddress) {
-        byte[] buf = new byte[2 * MAX_RECORD_LENGTH];
+        if (ipv4Table != null) return ipv4Table.seek(ipAddress);
+        return (int) seekNetwork(ipAddress);
+    }
+
+    /**
+     * Finds the leaf an IPv4 address leads to.
+     *
+     * @return the leaf pointer and the prefix length of its network, packed
+     *         by {@link #network(int, int)}.
+     */
+    private long seekNetwork(long ipAddress) {
+        if (ipv4Table != null) return ipv4Table.seekNetwork(ipAddress);
+        NetworkCache cache = networkCache;
+        if (cache == null) return walk(ipAddress);
+        long network = cache.get(ipAddress);
+        if (network < 0) cache.put(ipAddress, network = walk(ipAddress));
+        return network;
+    }
+
+    private long walk(long ipAddress) {
         int offset = 0;
         for (int depth = 31; depth >= 0; depth--) {
-            reader.readBuffer(buf, 2 * dbInfo.recordLength * offset, buf.length);
-            int x1 = calcX(dbInfo.recordLength, buf);
             if ((ipAddress & (1 << depth)) > 0) {
-                if (x1 >= dbInfo.databaseSegment) {
-//                        last_netmask = 32 - depth;
-                    return x1;
+                int x1 = reader.readNode(offset, 1, dbInfo.recordLength);
+                if (isLeaf(x1)) {
+                    return network(x1, 32 - depth);
                 }
                 offset = x1;
             } else {
-                int x0 = calcX(0, buf);
-                if (x0 >= dbInfo.databaseSegment) {
-//                        last_netmask = 32 - depth;
-                    return x0;
+                int x0 = reader.readNode(offset, 0, dbInfo.recordLength);
+                if (isLeaf(x0)) {
+                    return network(x0, 32 - depth);
                 }
                 offset = x0;
             }
@@ -361,66 +785,127 @@ public class LookupService {
         return 0;
     }
 
+    private int seekCountryV6(InetAddress addr) {
+        long[] v6 = toIPv6(addr.getAddress(), V6_ADDRESS.get());
+        return seekCountryV6(v6[0], v6[1]);
+    }
+
+    /**
+     * Runs seekCountry for several addresses. The walks advance in lock-step,
+     * one level for every address before the next level, so the independent
+     * node reads are in flight together instead of one dependent load after
+     * the other.
+     *
+     * @param ips
+     *            the addresses in long format.
+     * @param seeks
+     *            receives what seekCountry returns for every address.
+     * @param count
+     *            the number of addresses to look up.
+     */
+    private void seekCountries(long[] ips, int[] seeks, int count) {
+        if (ipv4Table != null) {
+            for (int lane = 0; lane < count; lane++) seeks[lane] = ipv4Table.seek(ips[lane]);
+            return;
+        }
+        final int recordLength = dbInfo.recordLength;
+        final int segment = dbInfo.databaseSegment;
+        // seeks holds the current node of every lane until it reaches a leaf
+        Arrays.fill(seeks, 0, count, 0);
+        int pending = count;
+        for (int depth = 31; depth >= 0 && pending > 0; depth--) {
+            pending = 0;
+            for (int lane = 0; lane < count; lane++) {
+                int node = seeks[lane];
+                if (Integer.compareUnsigned(node, segment) >= 0) continue;
+                int next = reader.readNode(node, (int) (ips[lane] >>> depth) & 1, recordLength);
+                seeks[lane] = next;
+                if (Integer.compareUnsigned(next, segment) < 0) pending++;
+            }
+        }
+        for (int lane = 0; lane < count; lane++) {
+            // shouldn't happen, same as in seekCountry
+            if (Integer.compareUnsigned(seeks[lane], segment) < 0) seeks[lane] = 0;
+        }
+    }
+
     /**
      * Finds the country index value given an IPv6 address.
      *
-     * @param addr
-     *            the ip address to find in long format.
+     * @param high
+     *            the high 64 bits of the address.
+     * @param low
+     *            the low 64 bits of the address.
      * @return the country index.
      */
-    private int seekCountryV6(InetAddress addr) {
-        byte[] v6vec = addr.getAddress();
+    private int seekCountryV6(long high, long low) {
+        if (ipv6Trie != null) return ipv6Trie.seek(high, low);
+        return (int) seekNetworkV6(high, low);
+    }
 
-        if (v6vec.length == 4) {
-            // sometimes java returns an ipv4 address for IPv6 input
-            // we have to work around that feature
-            // It happens for ::ffff:24.24.24.24
-            byte[] t = new byte[16];
-            System.arraycopy(v6vec, 0, t, 12, 4);
-            v6vec = t;
-        }
+    /**
+     * Finds the leaf an IPv6 address leads to.
+     *
+     * @return the leaf pointer and the prefix length of its network, packed
+     *         by {@link #network(int, int)}.
+     */
+    private long seekNetworkV6(long high, long low) {
+        if (ipv6Trie != null) return ipv6Trie.seekNetwork(high, low);
+        NetworkCache cache = networkCache;
+        if (cache == null) return walkV6(high, low);
+        long network = cache.getV6(high, low);
+        if (network < 0) cache.putV6(high, low, network = walkV6(high, low));
+        return network;
+    }
 
-        byte[] buf = new byte[2 * MAX_RECORD_LENGTH];
+    private long walkV6(long high, long low) {
         int offset = 0;
         for (int depth = 127; depth >= 0; depth--) {
-            reader.readBuffer(buf, 2 * dbInfo.recordLength * offset, buf.length);
-            int bnum = 127 - depth;
-            int idx = bnum >> 3;
-            int b_mask = 1 << (bnum & 7 ^ 7);
-            if ((v6vec[idx] & b_mask) > 0) {
-                int x1 = calcX(dbInfo.recordLength, buf);
-                if (x1 >= dbInfo.databaseSegment) {
-//                        last_netmask = 128 - depth;
-                    return x1;
+            long half = depth >= 64 ? high : low;
+            if ((half & (1L << depth)) != 0) {
+                int x1 = reader.readNode(offset, 1, dbInfo.recordLength);
+                if (isLeaf(x1)) {
+                    return network(x1, 128 - depth);
                 }
                 offset = x1;
             } else {
-                int x0 = calcX(0, buf);
-                if (x0 >= dbInfo.databaseSegment) {
-//                        last_netmask = 128 - depth;
-                    return x0;
+                int x0 = reader.readNode(offset, 0, dbInfo.recordLength);
+                if (isLeaf(x0)) {
+                    return network(x0, 128 - depth);
                 }
                 offset = x0;
             }
         }
 
         // shouldn't reach here
-        System.err.println("Error seeking country while seeking " + addr.getHostAddress());
+        System.err.println("Error seeking country while seeking " + Long.toHexString(high) + ":" + Long.toHexString(low));
         return 0;
     }
 
 
-    /* TODO: Better name..
+    /**
+     * Reads from a position until the buffer is full or the file ends; a
+     * single positional read may return fewer bytes than asked for.
      */
-    private int calcX(final int offset, final byte[] buf) {
-        int result = 0;
-        for (int j = 0; j < dbInfo.recordLength; j++) {
-            int y = buf[offset + j];
-            if (y < 0) y += 256;
-            result += (y << (j * 8));
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) break;
+            position += read;
         }
+    }
+
+    /**
+     * Decodes a little-endian search tree pointer of recordLength bytes. The
+     * pointer is unsigned, see {@link #isLeaf(int)}.
+     */
+    private static int decodeRecord(final byte[] buf, final int offset, final int recordLength) {
+        int result = 0;
+        for (int j = 0; j < recordLength; j++)
+            result |= unsignedByteToInt(buf[offset + j]) << (j * 8);
         return result;
     }
+
     /**
      * Returns the country the IP address is in.
      *
@@ -429,13 +914,8 @@ public class LookupService {
      * @return the country the IP address is from.
      */
     public Country getCountryV6(String ipAddress) {
-        InetAddress addr;
-        try {
-            addr = InetAddress.getByName(ipAddress);
-        } catch (UnknownHostException e) {
-            return UNKNOWN_COUNTRY;
-        }
-        return getCountryV6(addr);
+        long[] v6 = toIPv6(ipAddress);
+        return v6 == null ? UNKNOWN_COUNTRY : getCountryV6(v6[0], v6[1]);
     }
 
     /**
@@ -446,13 +926,8 @@ public class LookupService {
      * @return the country the IP address is from.
      */
     public Country getCountry(String ipAddress) {
-        InetAddress addr;
-        try {
-            addr = InetAddress.getByName(ipAddress);
-        } catch (UnknownHostException e) {
-            return UNKNOWN_COUNTRY;
-        }
-        return getCountry(bytesToLong(addr.getAddress()));
+        long ipnum = toIPv4(ipAddress);
+        return ipnum < 0 ? UNKNOWN_COUNTRY : getCountry(ipnum);
     }
 
     /**
@@ -474,8 +949,35 @@ public class LookupService {
      * @return the country the IP address is from.
      */
     public Country getCountryV6(InetAddress addr) {
-        int ret = seekCountryV6(addr) - COUNTRY_BEGIN;
-        return ret == 0 ? UNKNOWN_COUNTRY : new Country(countryCode[ret], countryName[ret]);
+        return countries[seekCountryV6(addr) - COUNTRY_BEGIN];
+    }
+
+    /**
+     * Returns the country the IP address is in.
+     *
+     * @param high
+     *            the high 64 bits of the IPv6 address.
+     * @param low
+     *            the low 64 bits of the IPv6 address.
+     * @return the country the IP address is from.
+     * @see AddressParser#parseIPv6(CharSequence, long[])
+     */
+    public Country getCountryV6(long high, long low) {
+        return countries[getCountryIndexV6(high, low)];
+    }
+
+    /**
+     * Returns the index of the country the IP address is in.
+     *
+     * @param high
+     *            the high 64 bits of the IPv6 address.
+     * @param low
+     *            the low 64 bits of the IPv6 address.
+     * @return the country index, 0 if the country is unknown.
+     * @see #getCountryByIndex(int)
+     */
+    public int getCountryIndexV6(long high, long low) {
+        return seekCountryV6(high, low) - COUNTRY_BEGIN;
     }
 
     /**
@@ -486,18 +988,227 @@ public class LookupService {
      * @return the country the IP address is from.
      */
     public Country getCountry(long ipAddress) {
-        int ret = seekCountry(ipAddress) - COUNTRY_BEGIN;
-        return ret == 0 ? UNKNOWN_COUNTRY : new Country(countryCode[ret], countryName[ret]);
+        return countries[getCountryIndex(ipAddress)];
+    }
+
+    /**
+     * Returns the index of the country the IP address is in.
+     *
+     * @param ipAddress
+     *            String version of an IP address, i.e. "127.0.0.1"
+     * @return the country index, 0 if the country is unknown.
+     * @see #getCountryByIndex(int)
+     */
+    public int getCountryIndex(String ipAddress) {
+        long ipnum = toIPv4(ipAddress);
+        return ipnum < 0 ? 0 : getCountryIndex(ipnum);
+    }
+
+    /**
+     * Returns the index of the country the IP address is in.
+     *
+     * @param ipAddress
+     *            the IP address in long format.
+     * @return the country index, 0 if the country is unknown.
+     * @see #getCountryByIndex(int)
+     */
+    public int getCountryIndex(long ipAddress) {
+        return seekCountry(ipAddress) - COUNTRY_BEGIN;
+    }
+
+    /**
+     * Returns the prefix length of the database network the IP address is in,
+     * like GeoIP_last_netmask in the C API. Every address of that network
+     * gets the same answer from this database.
+     *
+     * @param ipAddress
+     *            the IP address in long format.
+     * @return the prefix length, 1 to 32.
+     */
+    public int getNetmask(long ipAddress) {
+        return netmask(seekNetwork(ipAddress));
+    }
+
+    /**
+     * Returns the prefix length of the database network the IP address is in.
+     *
+     * @param high
+     *            the high 64 bits of the IPv6 address.
+     * @param low
+     *            the low 64 bits of the IPv6 address.
+     * @return the prefix length, 1 to 128.
+     * @see #getNetmask(long)
+     */
+    public int getNetmaskV6(long high, long low) {
+        return netmask(seekNetworkV6(high, low));
+    }
+
+    /**
+     * Returns every network of the database that has data, with the record
+     * it resolves to, in address order. The tree is walked lazily, so the
+     * whole database can be exported without probing every address. The
+     * stream splits at subtrees for parallel processing; decode the records
+     * with {@link #getCountry(Network)}, {@link #getRegion(Network)},
+     * {@link #getLocation(Network)} or {@link #getOrg(Network)}:
+     *
+     * <pre>
+     * cl.networks().parallel().forEach(n -&gt; export(n, cl.getLocation(n)));
+     * </pre>
+     *
+     * @return the networks of the database.
+     */
+    public Stream<Network> networks() {
+        return StreamSupport.stream(new NetworkSpliterator(this), false);
+    }
+
+    int readNode(int node, int branch) {
+        return reader.readNode(node, branch, dbInfo.recordLength);
+    }
+
+    /**
+     * Returns the country of a network of the Country edition.
+     */
+    public Country getCountry(Network network) {
+        return countries[network.getRecord() - COUNTRY_BEGIN];
+    }
+
+    /**
+     * Returns the region of a network of the Region edition.
+     */
+    public Region getRegion(Network network) {
+        return readRegion(network.getRecord());
+    }
+
+    /**
+     * Returns the location of a network of the City edition.
+     */
+    public Location getLocation(Network network) {
+        return readLocation(network.getRecord(), new byte[FULL_RECORD_LENGTH]);
+    }
+
+    /**
+     * Returns the name of a network of the Org, ISP, Domain, ASNum or
+     * NetSpeed rev1 edition.
+     */
+    public String getOrg(Network network) {
+        return getOrg(network.getRecord());
+    }
+
+    /**
+     * Looks up the country of an IP address, with the network it is in.
+     *
+     * @param ipAddress
+     *            String version of an IP address, i.e. "127.0.0.1"
+     * @return the result, or null if the address cannot be parsed.
+     */
+    public LookupResult<Country> lookupCountry(String ipAddress) {
+        long ipnum = toIPv4(ipAddress);
+        return ipnum < 0 ? null : lookupCountry(ipnum);
+    }
+
+    public LookupResult<Country> lookupCountry(long ipAddress) {
+        long network = seekNetwork(ipAddress);
+        return new LookupResult<Country>(countries[(int) network - COUNTRY_BEGIN], ipv4Network(ipAddress, network));
+    }
+
+    public LookupResult<Country> lookupCountryV6(String ipAddress) {
+        long[] v6 = toIPv6(ipAddress);
+        return v6 == null ? null : lookupCountryV6(v6[0], v6[1]);
+    }
+
+    public LookupResult<Country> lookupCountryV6(long high, long low) {
+        long network = seekNetworkV6(high, low);
+        return new LookupResult<Country>(countries[(int) network - COUNTRY_BEGIN], ipv6Network(high, low, network));
+    }
+
+    public LookupResult<Region> lookupRegion(String str) {
+        long ipnum = toIPv4(str);
+        return ipnum < 0 ? null : lookupRegion(ipnum);
+    }
+
+    public LookupResult<Region> lookupRegion(long ipnum) {
+        long network = seekNetwork(ipnum);
+        return new LookupResult<Region>(readRegion((int) network), ipv4Network(ipnum, network));
+    }
+
+    public LookupResult<Location> lookupLocation(String str) {
+        long ipnum = toIPv4(str);
+        return ipnum < 0 ? null : lookupLocation(ipnum);
+    }
+
+    public LookupResult<Location> lookupLocation(long ipnum) {
+        long network = seekNetwork(ipnum);
+        Location location = readLocation((int) network, new byte[FULL_RECORD_LENGTH]);
+        return new LookupResult<Location>(location, ipv4Network(ipnum, network));
+    }
+
+    public LookupResult<Location> lookupLocationV6(String str) {
+        long[] v6 = toIPv6(str);
+        return v6 == null ? null : lookupLocationV6(v6[0], v6[1]);
+    }
+
+    public LookupResult<Location> lookupLocationV6(long high, long low) {
+        long network = seekNetworkV6(high, low);
+        Location location = readLocation((int) network, new byte[FULL_RECORD_LENGTH]);
+        return new LookupResult<Location>(location, ipv6Network(high, low, network));
+    }
+
+    public LookupResult<String> lookupOrg(String str) {
+        long ipnum = toIPv4(str);
+        return ipnum < 0 ? null : lookupOrg(ipnum);
+    }
+
+    public LookupResult<String> lookupOrg(long ipnum) {
+        long network = seekNetwork(ipnum);
+        return new LookupResult<String>(getOrg((int) network), ipv4Network(ipnum, network));
+    }
+
+    public LookupResult<String> lookupOrgV6(String str) {
+        long[] v6 = toIPv6(str);
+        return v6 == null ? null : lookupOrgV6(v6[0], v6[1]);
+    }
+
+    public LookupResult<String> lookupOrgV6(long high, long low) {
+        long network = seekNetworkV6(high, low);
+        return new LookupResult<String>(getOrg((int) network), ipv6Network(high, low, network));
+    }
+
+    /**
+     * Turns a packed seekNetwork result into the network the address is in.
+     */
+    private static Network ipv4Network(long ipAddress, long network) {
+        int netmask = netmask(network);
+        return new Network(false, 0, ipAddress & (0xFFFFFFFFL << (32 - netmask)) & 0xFFFFFFFFL, netmask, (int) network);
+    }
+
+    private static Network ipv6Network(long high, long low, long network) {
+        int netmask = netmask(network);
+        if (netmask <= 64) return new Network(true, high & (-1L << (64 - netmask)), 0, netmask, (int) network);
+        return new Network(true, high, low & (-1L << (128 - netmask)), netmask, (int) network);
+    }
+
+    /**
+     * Returns the country for a country index. All lookups share these
+     * instances.
+     *
+     * @param index
+     *            the country index, between 0 and getCountryCount() - 1.
+     * @return the country, UNKNOWN for index 0.
+     */
+    public static Country getCountryByIndex(int index) {
+        return countries[index];
+    }
+
+    /**
+     * Returns the number of country indexes.
+     */
+    public static int getCountryCount() {
+        return countries.length;
     }
 
     public int getID(String ipAddress) {
-        InetAddress addr;
-        try {
-            addr = InetAddress.getByName(ipAddress);
-        } catch (UnknownHostException e) {
-            return 0;
-        }
-        return getID(bytesToLong(addr.getAddress()));
+        long ipnum = toIPv4(ipAddress);
+        return ipnum < 0 ? 0 : getID(ipnum);
     }
 
     public int getID(InetAddress ipAddress) {
@@ -508,16 +1219,32 @@ public class LookupService {
         return  seekCountry(ipAddress) - dbInfo.databaseSegment;
     }
 
-    // for GeoIP City only
-    public Location getLocationV6(String str) {
-        InetAddress addr;
-        try {
-            addr = InetAddress.getByName(str);
-        } catch (UnknownHostException e) {
-            return null;
+    /**
+     * Looks up the country of many IPv4 addresses at once without creating a
+     * Country per address.
+     *
+     * @param ipv4
+     *            the IP addresses, one unsigned int each.
+     * @param out
+     *            receives the country index of every address, 0 if unknown.
+     * @see #getCountryByIndex(int)
+     */
+    public void getCountryIds(int[] ipv4, int[] out) {
+        if (out.length < ipv4.length) throw new IllegalArgumentException("out is shorter than ipv4");
+        long[] lanes = new long[BATCH_LANES];
+        int[] seeks = new int[BATCH_LANES];
+        for (int from = 0; from < ipv4.length; from += BATCH_LANES) {
+            int count = Math.min(BATCH_LANES, ipv4.length - from);
+            for (int lane = 0; lane < count; lane++) lanes[lane] = ipv4[from + lane] & 0xFFFFFFFFL;
+            seekCountries(lanes, seeks, count);
+            for (int lane = 0; lane < count; lane++) out[from + lane] = seeks[lane] - COUNTRY_BEGIN;
         }
+    }
 
-        return getLocationV6(addr);
+    // for GeoIP City only
+    public Location getLocationV6(String str) {
+        long[] v6 = toIPv6(str);
+        return v6 == null ? null : getLocationV6(v6[0], v6[1]);
     }
 
     // for GeoIP City only
@@ -527,32 +1254,24 @@ public class LookupService {
 
     // for GeoIP City only
     public Location getLocation(String str) {
-        InetAddress addr;
-        try {
-            addr = InetAddress.getByName(str);
-        } catch (UnknownHostException e) {
-            return null;
-        }
-
-        return getLocation(addr);
+        long ipnum = toIPv4(str);
+        return ipnum < 0 ? null : getLocation(ipnum);
     }
 
     public Region getRegion(String str) {
-        InetAddress addr;
-        try {
-            addr = InetAddress.getByName(str);
-        } catch (UnknownHostException e) {
-            return null;
-        }
-
-        return getRegion(bytesToLong(addr.getAddress()));
+        long ipnum = toIPv4(str);
+        return ipnum < 0 ? null : getRegion(ipnum);
     }
 
     public Region getRegion(long ipnum) {
+        return readRegion(seekCountry(ipnum));
+    }
+
+    private Region readRegion(int seek_country) {
         Region record = new Region();
 
         if (dbInfo.databaseType == DatabaseInfo.REGION_EDITION_REV0) {
-            int seek_region = seekCountry(ipnum) - STATE_BEGIN_REV0;
+            int seek_region = seek_country - STATE_BEGIN_REV0;
             char ch[] = new char[2];
             if (seek_region >= 1000) {
                 record.countryCode = "US";
@@ -566,7 +1285,7 @@ public class LookupService {
                 record.region = "";
             }
         } else if (dbInfo.databaseType == DatabaseInfo.REGION_EDITION_REV1) {
-            int seek_region = seekCountry(ipnum) - STATE_BEGIN_REV1;
+            int seek_region = seek_country - STATE_BEGIN_REV1;
             char ch[] = new char[2];
             if (seek_region < US_OFFSET) {
                 record.countryCode = "";
@@ -594,119 +1313,95 @@ public class LookupService {
     }
 
     public Location getLocationV6(InetAddress addr) {
-        Location record = new Location();
-        try {
-            int seek_country = seekCountryV6(addr);
-            if (seek_country == dbInfo.databaseSegment) return null;
-            int record_pointer = seek_country + (2 * dbInfo.recordLength - 1) * dbInfo.databaseSegment;
-
-            byte record_buf[] = new byte[FULL_RECORD_LENGTH];
-            reader.readBuffer(record_buf, record_pointer, FULL_RECORD_LENGTH);
-            // get country
-            record.countryCode = countryCode[unsignedByteToInt(record_buf[0])];
-            record.countryName = countryName[unsignedByteToInt(record_buf[0])];
-
-            int record_buf_offset = 1;
-
-            // get region
-            int str_length = stringScan(record_buf, record_buf_offset);
-            if (str_length > 0) {
-                record.region = new String(record_buf, record_buf_offset, str_length);
-            }
-            record_buf_offset += str_length + 1;
-
-            // get city
-            str_length = stringScan(record_buf, record_buf_offset);
-            if (str_length > 0) {
-                record.city = new String(record_buf, record_buf_offset, str_length, "ISO-8859-1");
-            }
-            record_buf_offset += str_length + 1;
+        long[] v6 = toIPv6(addr.getAddress(), V6_ADDRESS.get());
+        return getLocationV6(v6[0], v6[1]);
+    }
 
-            // get postal code
-            str_length = stringScan(record_buf, record_buf_offset);
-            if (str_length > 0) {
-                record.postalCode = new String(record_buf, record_buf_offset, str_length);
-            }
-            record_buf_offset += str_length + 1;
-
-            record.latitude = (float) extractCoordValue(record_buf, record_buf_offset);
-            record_buf_offset += 3;
-            record.longitude = (float) extractCoordValue(record_buf, record_buf_offset);
-
-            record.dma_code = record.metro_code = 0;
-            record.area_code = 0;
-            if (dbInfo.databaseType == dbInfo.CITY_EDITION_REV1) {
-                // get DMA code
-                int metroarea_combo = 0;
-                if ("US".equals(record.countryCode)) {
-                    record_buf_offset += 3;
-                    for (int j = 0; j < 3; j++)
-                        metroarea_combo += (unsignedByteToInt(record_buf[record_buf_offset + j]) << (j * 8));
-                    record.metro_code = record.dma_code = metroarea_combo / 1000;
-                    record.area_code = metroarea_combo % 1000;
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("IO Exception while seting up segments");
-        }
-        return record;
+    public Location getLocationV6(long high, long low) {
+        return readLocation(seekCountryV6(high, low), new byte[FULL_RECORD_LENGTH]);
     }
 
     public Location getLocation(long ipnum) {
+        return readLocation(seekCountry(ipnum), new byte[FULL_RECORD_LENGTH]);
+    }
+
+    /**
+     * Looks up the City edition location of many IPv4 addresses at once. The
+     * record buffer is shared by the whole batch.
+     *
+     * @param ips
+     *            the IP addresses in long format.
+     * @param sink
+     *            receives the location of every address in order.
+     */
+    public void getLocations(long[] ips, LocationSink sink) {
         byte record_buf[] = new byte[FULL_RECORD_LENGTH];
+        long[] lanes = new long[BATCH_LANES];
+        int[] seeks = new int[BATCH_LANES];
+        for (int from = 0; from < ips.length; from += BATCH_LANES) {
+            int count = Math.min(BATCH_LANES, ips.length - from);
+            System.arraycopy(ips, from, lanes, 0, count);
+            seekCountries(lanes, seeks, count);
+            for (int lane = 0; lane < count; lane++) sink.location(from + lane, readLocation(seeks[lane], record_buf));
+        }
+    }
+
+    private Location readLocation(int seek_country, byte[] record_buf) {
+        if (seek_country == dbInfo.databaseSegment) {
+            return null;
+        }
+        LongKeyCache<Location> cache = locationCache;
+        if (cache != null) {
+            Location cached = cache.get(seek_country);
+            if (cached != null) return cached;
+        }
+        StringPool pool = stringPool;
         int record_buf_offset = 0;
         Location record = new Location();
-        try {
-            int seek_country = seekCountry(ipnum);
-            if (seek_country == dbInfo.databaseSegment) {
-                return null;
-            }
-            int record_pointer = seek_country + (2 * dbInfo.recordLength - 1) * dbInfo.databaseSegment;
-            reader.readBuffer(record_buf, record_pointer, FULL_RECORD_LENGTH);
-            // get country
-            record.countryCode = countryCode[unsignedByteToInt(record_buf[0])];
-            record.countryName = countryName[unsignedByteToInt(record_buf[0])];
-            record_buf_offset++;
-
-            // get region
-            int  str_length = stringScan(record_buf, record_buf_offset);
-            if (str_length > 0) {
-                record.region = new String(record_buf, record_buf_offset, str_length);
-            }
-            record_buf_offset += str_length + 1;
-            // get city
-            str_length = stringScan(record_buf, record_buf_offset);
-            if (str_length > 0) {
-                record.city = new String(record_buf, record_buf_offset, str_length, "ISO-8859-1");
-            }
-            record_buf_offset += str_length + 1;
+        long record_pointer = recordPointer(seek_country);
+        reader.readBuffer(record_buf, record_pointer, FULL_RECORD_LENGTH);
+        // get country
+        record.countryCode = countryCode[unsignedByteToInt(record_buf[0])];
+        record.countryName = countryName[unsignedByteToInt(record_buf[0])];
+        record_buf_offset++;
+
+        // get region
+        int  str_length = stringScan(record_buf, record_buf_offset);
+        if (str_length > 0) {
+            record.region = decode(pool, record_buf, record_buf_offset, str_length, Charset.defaultCharset());
+        }
+        record_buf_offset += str_length + 1;
+        // get city
+        str_length = stringScan(record_buf, record_buf_offset);
+        if (str_length > 0) {
+            record.city = decode(pool, record_buf, record_buf_offset, str_length, StandardCharsets.ISO_8859_1);
+        }
+        record_buf_offset += str_length + 1;
 
-            // get postal code
-            str_length = stringScan(record_buf, record_buf_offset);
-            if (str_length > 0) {
-                record.postalCode = new String(record_buf, record_buf_offset, str_length);
-            }
-            record_buf_offset += str_length + 1;
-            record.latitude = (float) extractCoordValue(record_buf, record_buf_offset);
-            record_buf_offset += 3;
-            record.longitude = (float) extractCoordValue(record_buf, record_buf_offset);
-
-            record.dma_code = record.metro_code = 0;
-            record.area_code = 0;
-            if (dbInfo.databaseType == dbInfo.CITY_EDITION_REV1) {
-                // get DMA code
-                int metroarea_combo = 0;
-                if ("US".equals(record.countryCode)) {
-                    record_buf_offset += 3;
-                    for (int j = 0; j < 3; j++)
-                        metroarea_combo += (unsignedByteToInt(record_buf[record_buf_offset + j]) << (j * 8));
-                    record.metro_code = record.dma_code = metroarea_combo / 1000;
-                    record.area_code = metroarea_combo % 1000;
-                }
+        // get postal code
+        str_length = stringScan(record_buf, record_buf_offset);
+        if (str_length > 0) {
+            record.postalCode = decode(pool, record_buf, record_buf_offset, str_length, Charset.defaultCharset());
+        }
+        record_buf_offset += str_length + 1;
+        record.latitude = (float) extractCoordValue(record_buf, record_buf_offset);
+        record_buf_offset += 3;
+        record.longitude = (float) extractCoordValue(record_buf, record_buf_offset);
+
+        record.dma_code = record.metro_code = 0;
+        record.area_code = 0;
+        if (dbInfo.databaseType == dbInfo.CITY_EDITION_REV1) {
+            // get DMA code
+            int metroarea_combo = 0;
+            if ("US".equals(record.countryCode)) {
+                record_buf_offset += 3;
+                for (int j = 0; j < 3; j++)
+                    metroarea_combo += (unsignedByteToInt(record_buf[record_buf_offset + j]) << (j * 8));
+                record.metro_code = record.dma_code = metroarea_combo / 1000;
+                record.area_code = metroarea_combo % 1000;
             }
-        } catch (IOException e) {
-            System.err.println("IO Exception while seting up segments");
         }
+        if (cache != null) cache.put(seek_country, record);
         return record;
     }
 
@@ -722,11 +1417,8 @@ public class LookupService {
     }
 
     public String getOrg(String str) {
-        try {
-            return getOrg(InetAddress.getByName(str));
-        } catch (UnknownHostException e) {
-            return null;
-        }
+        long ipnum = toIPv4(str);
+        return ipnum < 0 ? null : getOrg(ipnum);
     }
 
     // GeoIP Organization and ISP Edition methods
@@ -736,11 +1428,8 @@ public class LookupService {
     }
 
     public String getOrgV6(String str) {
-        try {
-            return getOrgV6(InetAddress.getByName(str));
-        } catch (UnknownHostException e) {
-            return null;
-        }
+        long[] v6 = toIPv6(str);
+        return v6 == null ? null : getOrgV6(v6[0], v6[1]);
     }
 
     // GeoIP Organization and ISP Edition methods
@@ -749,20 +1438,23 @@ public class LookupService {
         return getOrg(seek_org);
     }
 
+    public String getOrgV6(long high, long low) {
+        int seek_org = seekCountryV6(high, low);
+        return getOrg(seek_org);
+    }
+
 
     private String getOrg(int seek_org) {
         if (seek_org == dbInfo.databaseSegment) return null;
-        int record_pointer = seek_org + (2 * dbInfo.recordLength - 1) * dbInfo.databaseSegment;
-        try {
-            byte[] buf = new byte[MAX_ORG_RECORD_LENGTH];
-            reader.readBuffer(buf, record_pointer, buf.length);
-            int strLength = stringScan(buf, 0);
-            return new String(buf, 0, strLength, "ISO-8859-1");
-        } catch (IOException e) {
-            e.printStackTrace();
-            System.out.println("IO Exception");
-            return null;
-        }
+        long record_pointer = recordPointer(seek_org);
+        byte[] buf = new byte[MAX_ORG_RECORD_LENGTH];
+        reader.readBuffer(buf, record_pointer, buf.length);
+        int strLength = stringScan(buf, 0);
+        return decode(stringPool, buf, 0, strLength, StandardCharsets.ISO_8859_1);
+    }
+
+    private static String decode(StringPool pool, byte[] buffer, int offset, int length, Charset charset) {
+        return pool != null ? pool.get(buffer, offset, length, charset) : new String(buffer, offset, length, charset);
     }
 
     private static int stringScan(final byte[] buffer, final int offset) {
@@ -789,46 +1481,136 @@ public class LookupService {
         return ipnum;
     }
 
+    /**
+     * Returns the IPv4 address the String lookups use, or -1 if str is
+     * neither a literal nor a resolvable host name. Like InetAddress, an IPv6
+     * literal contributes its first 4 bytes unless it is IPv4-mapped.
+     */
+    long toIPv4(String str) {
+        if (str != null) {
+            long ipnum = AddressParser.parseIPv4(str);
+            if (ipnum >= 0) return ipnum;
+            long[] v6 = V6_ADDRESS.get();
+            if (AddressParser.parseIPv6(str, v6)) {
+                return isIPv4Mapped(v6) ? v6[1] & 0xFFFFFFFFL : v6[0] >>> 32;
+            }
+        }
+        InetAddress addr = resolve(str);
+        return addr == null ? -1 : bytesToLong(addr.getAddress());
+    }
+
+    /**
+     * Returns the IPv6 address the String lookups use in a per-thread array,
+     * or null if str is neither a literal nor a resolvable host name. IPv4
+     * addresses, mapped ones included, are looked up as ::a.b.c.d like the
+     * InetAddress methods always did.
+     */
+    long[] toIPv6(String str) {
+        long[] v6 = V6_ADDRESS.get();
+        if (str != null) {
+            long ipnum = AddressParser.parseIPv4(str);
+            if (ipnum >= 0) {
+                v6[0] = 0;
+                v6[1] = ipnum;
+                return v6;
+            }
+            if (AddressParser.parseIPv6(str, v6)) {
+                if (isIPv4Mapped(v6)) v6[1] &= 0xFFFFFFFFL;
+                return v6;
+            }
+        }
+        InetAddress addr = resolve(str);
+        return addr == null ? null : toIPv6(addr.getAddress(), v6);
+    }
+
+    private static long[] toIPv6(final byte[] address, final long[] v6) {
+        // sometimes java returns an ipv4 address for IPv6 input
+        // we have to work around that feature
+        // It happens for ::ffff:24.24.24.24
+        if (address.length == 4) {
+            v6[0] = 0;
+            v6[1] = bytesToLong(address);
+            return v6;
+        }
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < 8; i++) {
+            high = (high << 8) | unsignedByteToInt(address[i]);
+            low = (low << 8) | unsignedByteToInt(address[i + 8]);
+        }
+        v6[0] = high;
+        v6[1] = low;
+        return v6;
+    }
+
+    private static boolean isIPv4Mapped(final long[] v6) {
+        return v6[0] == 0 && (v6[1] >>> 32) == 0xFFFF;
+    }
+
+    private InetAddress resolve(String str) {
+        if (!resolveHostnames) return null;
+        try {
+            return InetAddress.getByName(str);
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
     private static int unsignedByteToInt(final byte b) { return (int) b & 0xFF; }
 
     public DatabaseInfo getDatabaseInfo() {
         return dbInfo;
     }
 
+    /**
+     * Watches the database file and hands a freshly loaded service to the
+     * callback whenever it changes. Bursts of changes, such as the file being
+     * copied in, are coalesced: the reload starts once the file has been left
+     * alone for a second. The reload then runs in stages on the watcher
+     * thread: the file is loaded once, validated, warmed up and only then
+     * published, so a half-written or foreign file is skipped instead of
+     * replacing a working database.
+     * <p>
+     *
+     * Update the file by writing the new database next to it and renaming it
+     * over the old one (e.g. Files.move with ATOMIC_MOVE). The services still
+     * in use keep reading the old file that way. Rewriting the file in place
+     * changes the data under them, and truncating a file mapped by
+     * DBType.MMAP makes their reads fail with an InternalError or crash the
+     * JVM.
+     *
+     * @param updateCallback
+     *            receives the updated services, null to stop watching.
+     */
     public synchronized void watch(final UpdateCallback updateCallback) throws IOException {
-        if(watchThread != null) {
-            watchThread.interrupt();
-            watchThread = null;
-        }
+        stopWatching();
         if(updateCallback == null) return;
         watchThread = new Thread("GeoAPI FileWatcher") {
             final Path path = dbInfo.path;
-            final DBType type = dbType;
 
             @Override
             public void run() {
                 final Path dirPath = path.getParent();
                 final Path filePath =path.getFileName();
+                LookupService current = LookupService.this;
                 try(WatchService watchService = dirPath.getFileSystem().newWatchService()) {
-                    WatchKey key = dirPath.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY);
+                    dirPath.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
                     while(true) {
-                        WatchKey wk = watchService.take();
-                        boolean doUpdate = false;
-                        for (WatchEvent<?> event : wk.pollEvents()) {
-                            doUpdate = doUpdate || filePath.equals(event.context());
+                        if (!affects(watchService.take(), filePath)) continue;
+                        // debounce: wait until the writer has gone quiet
+                        WatchKey wk;
+                        while ((wk = watchService.poll(RELOAD_QUIET_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                            affects(wk, filePath);
                         }
-
-                        key.reset();
-                        if (!doUpdate) continue;
-                        Thread.sleep(1000);
-                        try {
-                            LookupService updatedService = new LookupService(path, type);
-                            key.reset();
-                            updatedService.watchThread = this;
-                            updateCallback.update(new LookupService(path, type));
-                        } catch(Exception e) {}
+                        LookupService updatedService = current.reload();
+                        if (updatedService == null) continue;
+                        updatedService.watchThread = this;
+                        current = updatedService;
+                        updateCallback.update(updatedService);
                     }
-                } catch (IOException | InterruptedException e) {
+                } catch (InterruptedException e) {
+                    // watching was stopped
+                } catch (IOException e) {
                     e.printStackTrace();
                 }
             }
@@ -838,4 +1620,83 @@ public class LookupService {
         watchThread.setDaemon(true);
         watchThread.start();
     }
+
+    /**
+     * Stops the watcher thread, also one that a reload handed on to this
+     * service.
+     */
+    synchronized void stopWatching() {
+        if (watchThread != null) {
+            watchThread.interrupt();
+            watchThread = null;
+        }
+    }
+
+    /**
+     * Consumes the events of a watch key and tells whether one was about the
+     * file.
+     */
+    private static boolean affects(WatchKey wk, Path filePath) {
+        boolean affected = false;
+        for (WatchEvent<?> event : wk.pollEvents()) {
+            affected = affected || filePath.equals(event.context());
+        }
+        wk.reset();
+        return affected;
+    }
+
+    /**
+     * Loads the database file again with the same type and settings. The new
+     * service is validated to be of the same edition with a working search
+     * tree and warmed up before it is returned.
+     *
+     * @return the new service, or null if the file is not usable (yet).
+     */
+    private LookupService reload() {
+        LookupService updated;
+        try {
+            updated = new LookupService(dbInfo.path, dbType, cacheBytes);
+        } catch (IOException | RuntimeException | InternalError e) {
+            System.err.println("Could not load updated database " + dbInfo.path + ": " + e);
+            return null;
+        }
+        if (!updated.validate(dbInfo)) {
+            System.err.println("Skipping invalid updated database " + dbInfo.path);
+            updated.close();
+            return null;
+        }
+        updated.warm();
+        updated.setResolveHostnames(resolveHostnames);
+        updated.setLocationCache(locationCacheSize, locationCachePolicy);
+        updated.setNetworkCache(networkCacheSize);
+        updated.setStringPool(stringPoolSize);
+        return updated;
+    }
+
+    /**
+     * Checks that this service can stand in for one that was opened with
+     * the previous database: same edition, and walks to addresses spread over
+     * the whole address space all end in a leaf.
+     */
+    private boolean validate(DatabaseInfo previous) {
+        if (dbInfo.databaseType != previous.databaseType) return false;
+        try {
+            for (int i = 0; i < 256; i++) {
+                long network = dbInfo.isIPv6() ? seekNetworkV6((long) i << 56, 0) : seekNetwork((long) i << 24);
+                // the walk ran off the tree
+                if (netmask(network) == 0) return false;
+            }
+        } catch (RuntimeException e) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Pre-touches the pages of a memory mapped database, so the first lookups
+     * after a reload do not fault them in one by one.
+     */
+    private void warm() {
+        if (reader instanceof BufferReader) ((BufferReader) reader).data.load();
+    }
 }
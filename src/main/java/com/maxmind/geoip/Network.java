@@ -0,0 +1,138 @@
+package com.maxmind.geoip;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * A network of the search tree of a database, with the record that the
+ * addresses in it resolve to. Instances are immutable.
+ *
+ * @see LookupService#networks()
+ */
+public class Network {
+
+	private final boolean ipv6;
+	private final long high;
+	private final long low;
+	private final int prefixLength;
+	private final int record;
+
+	Network(boolean ipv6, long high, long low, int prefixLength, int record) {
+		this.ipv6 = ipv6;
+		this.high = high;
+		this.low = low;
+		this.prefixLength = prefixLength;
+		this.record = record;
+	}
+
+	/**
+	 * Returns true if the network is in the tree of an IPv6 edition.
+	 */
+	public boolean isIPv6() {
+		return ipv6;
+	}
+
+	/**
+	 * Returns the first address of an IPv4 network in long format.
+	 */
+	public long getAddress() {
+		return low;
+	}
+
+	/**
+	 * Returns the high 64 bits of the first address of an IPv6 network.
+	 */
+	public long getHigh() {
+		return high;
+	}
+
+	/**
+	 * Returns the low 64 bits of the first address of an IPv6 network.
+	 */
+	public long getLow() {
+		return low;
+	}
+
+	/**
+	 * Returns the number of leading bits shared by the addresses of the
+	 * network.
+	 */
+	public int getPrefixLength() {
+		return prefixLength;
+	}
+
+	/**
+	 * Returns the leaf of the search tree the network ends in: the database
+	 * segment plus the value for the country, region, proxy and netspeed
+	 * editions, the position of the record for the others.
+	 */
+	public int getRecord() {
+		return record;
+	}
+
+	/**
+	 * Returns the first address of the network.
+	 */
+	public InetAddress getInetAddress() {
+		byte[] address = new byte[ipv6 ? 16 : 4];
+		for (int i = 0; i < address.length; i++) {
+			int shift = 8 * (address.length - 1 - i);
+			address[i] = (byte) (shift >= 64 ? high >>> (shift - 64) : low >>> shift);
+		}
+		try {
+			// an Inet6Address even for IPv4 mapped addresses
+			return ipv6 ? Inet6Address.getByAddress(null, address, -1) : InetAddress.getByAddress(address);
+		} catch (UnknownHostException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (!(o instanceof Network)) return false;
+		Network other = (Network) o;
+		return ipv6 == other.ipv6 && high == other.high && low == other.low && prefixLength == other.prefixLength
+				&& record == other.record;
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (31 * (31 * (high ^ (high >>> 32)) + (low ^ (low >>> 32)))) + 31 * prefixLength + record;
+	}
+
+	/**
+	 * Returns the network in CIDR notation, such as "12.87.118.0/23" or
+	 * "2001:200::/32".
+	 */
+	@Override
+	public String toString() {
+		if (!ipv6) return getInetAddress().getHostAddress() + "/" + prefixLength;
+		int[] groups = new int[8];
+		for (int i = 0; i < 8; i++) {
+			groups[i] = (int) ((i < 4 ? high >>> (48 - 16 * i) : low >>> (112 - 16 * i)) & 0xFFFF);
+		}
+		// the longest run of two or more zero groups is written as ::
+		int zeros = -1, zerosLength = 1;
+		for (int i = 0; i < 8; ) {
+			int j = i;
+			while (j < 8 && groups[j] == 0) j++;
+			if (j - i > zerosLength) {
+				zeros = i;
+				zerosLength = j - i;
+			}
+			i = j == i ? i + 1 : j;
+		}
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 8; i++) {
+			if (i == zeros) {
+				sb.append("::");
+				i += zerosLength - 1;
+				continue;
+			}
+			if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ':') sb.append(':');
+			sb.append(Integer.toHexString(groups[i]));
+		}
+		return sb.append('/').append(prefixLength).toString();
+	}
+}
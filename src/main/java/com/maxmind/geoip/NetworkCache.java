@@ -0,0 +1,122 @@
+package com.maxmind.geoip;
+
+import java.util.Arrays;
+
+/**
+ * Caches search tree walks by the network the walk ended in rather than by
+ * address, so one entry answers every address of that network. Sequential
+ * ranges and scans, which never repeat an address, hit as soon as their
+ * network has been seen once.
+ * <p>
+ *
+ * An entry for network N/n is stored under N. A lookup masks the address to
+ * each prefix length L that cached networks have, most common first, and
+ * accepts an entry found under the masked address if its own length is at
+ * most L: the entry then covers the address. Only the MAX_PROBES most common
+ * lengths are tried; an address in a rarer network simply misses, walks the
+ * tree and makes its length more common.
+ * <p>
+ *
+ * Values are packed as by {@link LookupService#network(int, int)} and stored
+ * unboxed; packed values are never negative. The statistics behind the probe
+ * order are updated without locks and may lose racing updates, which only
+ * affects the order.
+ */
+final class NetworkCache {
+
+    private static final int MAX_PROBES = 8;
+    private static final int REORDER_INTERVAL = 1024;
+
+    private final Family ipv4;
+    private final Family ipv6;
+
+    /**
+     * @param capacity the maximum number of networks per address family.
+     */
+    NetworkCache(int capacity) {
+        ipv4 = new Family(capacity, 32);
+        ipv6 = new Family(capacity, 128);
+    }
+
+    /**
+     * Returns the cached walk result for an IPv4 address, or -1.
+     */
+    long get(long ipAddress) {
+        return ipv4.get(0, ipAddress);
+    }
+
+    /**
+     * Returns the cached walk result for an IPv6 address, or -1.
+     */
+    long getV6(long high, long low) {
+        return ipv6.get(high, low);
+    }
+
+    void put(long ipAddress, long network) {
+        ipv4.put(0, ipAddress, network);
+    }
+
+    void putV6(long high, long low, long network) {
+        ipv6.put(high, low, network);
+    }
+
+    private static final class Family {
+        private final LongKeyCache<Void> cache;
+        private final int bits;
+        private final int[] networks;
+        private volatile int[] probes = new int[0];
+        private int puts;
+
+        Family(int capacity, int bits) {
+            this.cache = new LongKeyCache<Void>(capacity, CachePolicy.LRU);
+            this.bits = bits;
+            this.networks = new int[bits + 1];
+        }
+
+        long get(long high, long low) {
+            for (int netmask : probes) {
+                long network = cache.getLong(maskHigh(high, netmask), maskLow(low, netmask), -1);
+                if (network >= 0 && LookupService.netmask(network) <= netmask) return network;
+            }
+            return -1;
+        }
+
+        void put(long high, long low, long network) {
+            int netmask = LookupService.netmask(network);
+            // a walk that fails returns 0, which as a /0 would answer every address
+            if (netmask == 0) return;
+            cache.putLong(maskHigh(high, netmask), maskLow(low, netmask), network);
+            if (networks[netmask]++ == 0 || ++puts % REORDER_INTERVAL == 0) reorder();
+        }
+
+        /**
+         * Orders the prefix lengths by the number of networks stored with
+         * them.
+         */
+        private void reorder() {
+            int[] counts = networks.clone();
+            int[] order = new int[MAX_PROBES];
+            int length = 0;
+            while (length < MAX_PROBES) {
+                int best = -1;
+                for (int netmask = 0; netmask <= bits; netmask++) {
+                    if (counts[netmask] > 0 && (best < 0 || counts[netmask] > counts[best])) best = netmask;
+                }
+                if (best < 0) break;
+                order[length++] = best;
+                counts[best] = 0;
+            }
+            probes = Arrays.copyOf(order, length);
+        }
+
+        private long maskHigh(long high, int netmask) {
+            if (bits == 32 || netmask >= 64) return high;
+            return netmask == 0 ? 0 : high & (-1L << (64 - netmask));
+        }
+
+        private long maskLow(long low, int netmask) {
+            if (bits == 32) return low & (-1L << (32 - netmask)) & 0xFFFFFFFFL;
+            return netmask <= 64 ? 0 : low & (-1L << (128 - netmask));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.maxmind.geoip;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Walks the search tree of a database depth first and yields every network
+ * that resolves to a record, in address order. Networks without data, whose
+ * leaf is the database segment itself, are skipped.
+ * <p>
+ *
+ * The subtrees still to be walked are kept on a stack, the next one on top.
+ * A split hands everything but the bottom entry, the largest and last
+ * subtree, to the new spliterator, so both halves stay in order and parallel
+ * streams divide the tree near its root.
+ */
+final class NetworkSpliterator implements Spliterator<Network> {
+
+    private final LookupService service;
+    private final boolean ipv6;
+    private final int bits;
+    private final int segment;
+
+    // one entry per pending subtree: the pointer to it, its depth and address
+    private final int[] pointers;
+    private final int[] depths;
+    private final long[] highs;
+    private final long[] lows;
+    private int size;
+    // unknown, halved on every split
+    private long estimate = Long.MAX_VALUE;
+
+    NetworkSpliterator(LookupService service) {
+        this.service = service;
+        DatabaseInfo info = service.getDatabaseInfo();
+        this.ipv6 = info.isIPv6();
+        this.bits = ipv6 ? 128 : 32;
+        this.segment = info.databaseSegment;
+        // a depth first walk keeps at most one pending subtree per level
+        pointers = new int[bits + 1];
+        depths = new int[bits + 1];
+        highs = new long[bits + 1];
+        lows = new long[bits + 1];
+        // the root node, at pointer 0
+        size = 1;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Network> action) {
+        while (size > 0) {
+            size--;
+            int pointer = pointers[size];
+            int depth = depths[size];
+            long high = highs[size];
+            long low = lows[size];
+            if (Integer.compareUnsigned(pointer, segment) >= 0) {
+                if (pointer == segment) continue;
+                action.accept(new Network(ipv6, high, low, depth, pointer));
+                return true;
+            }
+            // a node below the last level can only come from a damaged file
+            if (depth == bits) continue;
+            push(service.readNode(pointer, 1), depth + 1, high, low, true);
+            push(service.readNode(pointer, 0), depth + 1, high, low, false);
+        }
+        return false;
+    }
+
+    private void push(int pointer, int depth, long high, long low, boolean one) {
+        if (one) {
+            int bit = bits - depth;
+            if (bit >= 64) high |= 1L << (bit - 64); else low |= 1L << bit;
+        }
+        pointers[size] = pointer;
+        depths[size] = depth;
+        highs[size] = high;
+        lows[size] = low;
+        size++;
+    }
+
+    @Override
+    public Spliterator<Network> trySplit() {
+        if (size == 1) {
+            int pointer = pointers[0];
+            int depth = depths[0];
+            if (Integer.compareUnsigned(pointer, segment) >= 0 || depth == bits) return null;
+            long high = highs[0];
+            long low = lows[0];
+            size = 0;
+            push(service.readNode(pointer, 1), depth + 1, high, low, true);
+            push(service.readNode(pointer, 0), depth + 1, high, low, false);
+        }
+        if (size < 2) return null;
+        NetworkSpliterator prefix = new NetworkSpliterator(service);
+        System.arraycopy(pointers, 1, prefix.pointers, 0, size - 1);
+        System.arraycopy(depths, 1, prefix.depths, 0, size - 1);
+        System.arraycopy(highs, 1, prefix.highs, 0, size - 1);
+        System.arraycopy(lows, 1, prefix.lows, 0, size - 1);
+        prefix.size = size - 1;
+        size = 1;
+        estimate >>>= 1;
+        prefix.estimate = estimate;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+}
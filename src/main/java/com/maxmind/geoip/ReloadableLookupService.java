@@ -0,0 +1,270 @@
+package com.maxmind.geoip;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A lookup service whose database can be replaced while lookups are running.
+ * <p>
+ *
+ * The current LookupService is published through a single atomic reference.
+ * Every lookup holds a reference count on the service it started with, so
+ * {@link #update(LookupService)} can swap in a new database at once and the
+ * old one is closed by whichever lookup finishes last. Lookups neither wait
+ * for a reload nor see a closed database.
+ *
+ * <pre>
+ * ReloadableLookupService service = new ReloadableLookupService(
+ *         new LookupService(&quot;GeoIP.dat&quot;, LookupService.DBType.MEMORY_CACHE));
+ * service.watch();
+ * Country country = service.getCountry(&quot;64.17.254.216&quot;);
+ * </pre>
+ */
+public class ReloadableLookupService implements LookupService.UpdateCallback {
+
+    private static final class Handle {
+        final LookupService service;
+        // one reference is held by the ReloadableLookupService while current
+        final AtomicInteger references = new AtomicInteger(1);
+
+        Handle(LookupService service) {
+            this.service = service;
+        }
+
+        boolean retain() {
+            for (;;) {
+                int count = references.get();
+                if (count == 0) return false;
+                if (references.compareAndSet(count, count + 1)) return true;
+            }
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) service.close();
+        }
+    }
+
+    private final AtomicReference<Handle> current;
+
+    /**
+     * @param service
+     *            the service answering lookups until the first update. It is
+     *            closed once it has been replaced and drained.
+     */
+    public ReloadableLookupService(LookupService service) {
+        current = new AtomicReference<Handle>(new Handle(service));
+    }
+
+    /**
+     * Publishes an updated service. Lookups started from now on use it; the
+     * replaced service is closed as soon as the lookups still using it are
+     * done.
+     *
+     * @param updatedService
+     *            the service to answer lookups from now on.
+     */
+    @Override
+    public void update(LookupService updatedService) {
+        Handle updated = new Handle(updatedService);
+        Handle replaced = current.getAndSet(updated);
+        if (replaced == null) {
+            // closed meanwhile, take the update down again
+            current.compareAndSet(updated, null);
+            updated.release();
+            return;
+        }
+        replaced.release();
+    }
+
+    /**
+     * Reloads the database whenever its file changes.
+     *
+     * @see LookupService#watch(LookupService.UpdateCallback)
+     */
+    public void watch() throws IOException {
+        Handle handle = acquire();
+        try {
+            handle.service.watch(this);
+        } finally {
+            handle.release();
+        }
+    }
+
+    /**
+     * Stops watching and closes the current service once the lookups using it
+     * are done. Lookups started afterwards fail with an IllegalStateException.
+     */
+    public void close() {
+        Handle handle = current.getAndSet(null);
+        if (handle == null) return;
+        // the watcher is handed on with every update, so the current service has it
+        handle.service.stopWatching();
+        handle.release();
+    }
+
+    public DatabaseInfo getDatabaseInfo() {
+        Handle handle = acquire();
+        try {
+            return handle.service.getDatabaseInfo();
+        } finally {
+            handle.release();
+        }
+    }
+
+    public Country getCountry(String ipAddress) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getCountry(ipAddress);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public Country getCountry(long ipAddress) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getCountry(ipAddress);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public Country getCountryV6(String ipAddress) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getCountryV6(ipAddress);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public Country getCountryV6(long high, long low) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getCountryV6(high, low);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public int getID(String ipAddress) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getID(ipAddress);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public int getID(long ipAddress) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getID(ipAddress);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public Region getRegion(String str) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getRegion(str);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public Region getRegion(long ipnum) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getRegion(ipnum);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public Location getLocation(String str) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getLocation(str);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public Location getLocation(long ipnum) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getLocation(ipnum);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public Location getLocationV6(String str) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getLocationV6(str);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public Location getLocationV6(long high, long low) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getLocationV6(high, low);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public String getOrg(String str) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getOrg(str);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public String getOrg(long ipnum) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getOrg(ipnum);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public String getOrgV6(String str) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getOrgV6(str);
+        } finally {
+            handle.release();
+        }
+    }
+
+    public String getOrgV6(long high, long low) {
+        Handle handle = acquire();
+        try {
+            return handle.service.getOrgV6(high, low);
+        } finally {
+            handle.release();
+        }
+    }
+
+    /**
+     * Takes a reference on the current service. Fails only after close; a
+     * service that is being replaced is skipped for its successor.
+     */
+    private Handle acquire() {
+        for (;;) {
+            Handle handle = current.get();
+            if (handle == null) throw new IllegalStateException("lookup service is closed");
+            if (handle.retain()) return handle;
+        }
+    }
+}
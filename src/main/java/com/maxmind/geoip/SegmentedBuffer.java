@@ -0,0 +1,110 @@
+package com.maxmind.geoip;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only view of a whole database file as a sequence of ByteBuffers of
+ * at most SEGMENT_SIZE bytes each, addressed by long offsets. A single
+ * ByteBuffer cannot hold more than 2 GB; segments lift that limit.
+ * <p>
+ *
+ * All reads are absolute, so the buffer can be shared by any number of
+ * threads.
+ */
+final class SegmentedBuffer {
+
+    private static final int SEGMENT_BITS = 30;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_BITS;
+
+    private final ByteBuffer[] segments;
+    private final long size;
+
+    private SegmentedBuffer(ByteBuffer[] segments, long size) {
+        this.segments = segments;
+        this.size = size;
+    }
+
+    /**
+     * Maps a file into memory. The pages are shared with the operating
+     * system's page cache.
+     */
+    static SegmentedBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer[] segments = new ByteBuffer[segmentCount(size)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = (long) i << SEGMENT_BITS;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+            }
+            return new SegmentedBuffer(segments, size);
+        }
+    }
+
+    /**
+     * Reads a file into direct memory outside the Java heap.
+     */
+    static SegmentedBuffer load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer[] segments = new ByteBuffer[segmentCount(size)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = (long) i << SEGMENT_BITS;
+                ByteBuffer segment = ByteBuffer.allocateDirect((int) Math.min(SEGMENT_SIZE, size - position));
+                while (segment.hasRemaining()) {
+                    if (channel.read(segment, position + segment.position()) < 0) {
+                        throw new IOException("Database file shrank while it was loaded");
+                    }
+                }
+                segments[i] = segment;
+            }
+            return new SegmentedBuffer(segments, size);
+        }
+    }
+
+    private static int segmentCount(long size) {
+        return (int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_BITS);
+    }
+
+    long size() {
+        return size;
+    }
+
+    byte get(long offset) {
+        return segments[(int) (offset >>> SEGMENT_BITS)].get((int) offset & (SEGMENT_SIZE - 1));
+    }
+
+    /**
+     * Copies length bytes at offset into buffer, fewer if the file ends
+     * before.
+     *
+     * @return the number of bytes copied.
+     */
+    int get(long offset, byte[] buffer, int length) {
+        if (offset >= size) return 0;
+        if (length > size - offset) length = (int) (size - offset);
+        for (int done = 0; done < length; ) {
+            ByteBuffer segment = segments[(int) ((offset + done) >>> SEGMENT_BITS)];
+            int inSegment = (int) (offset + done) & (SEGMENT_SIZE - 1);
+            int count = Math.min(length - done, segment.limit() - inSegment);
+            // absolute gets leave the shared position untouched
+            for (int i = 0; i < count; i++) buffer[done + i] = segment.get(inSegment + i);
+            done += count;
+        }
+        return length;
+    }
+
+    /**
+     * Faults in the pages of a mapped file, so later reads do not wait for
+     * the disk.
+     */
+    void load() {
+        for (ByteBuffer segment : segments) {
+            if (segment instanceof MappedByteBuffer) ((MappedByteBuffer) segment).load();
+        }
+    }
+}
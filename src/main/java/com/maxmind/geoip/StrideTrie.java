@@ -0,0 +1,106 @@
+package com.maxmind.geoip;
+
+import java.util.Arrays;
+
+/**
+ * A level-compressed copy of an IPv6 search tree. Every block covers 8 bits of
+ * the address with 256 leaf-pushed entries, so a lookup visits at most 16
+ * blocks instead of walking up to 128 binary nodes. The prefix length of every
+ * entry is kept alongside for lookups that report their network.
+ */
+final class StrideTrie {
+
+    private static final int STRIDE_BITS = 8;
+    private static final int BLOCK_SIZE = 1 << STRIDE_BITS;
+
+    // entries >= 0 are leaves, negative entries are ~block of the next stride
+    private int[] blocks = new int[64 * BLOCK_SIZE];
+    private byte[] netmasks = new byte[64 * BLOCK_SIZE];
+    private int blockCount = 0;
+
+    /**
+     * Returns true for the IPv6 editions.
+     */
+    static boolean supports(int databaseType) {
+        return DatabaseInfo.isIPv6(databaseType);
+    }
+
+    /**
+     * Compiles a decoded search tree.
+     *
+     * @param tree the left and right child of every node.
+     * @param databaseSegment the first pointer value that denotes a leaf.
+     */
+    StrideTrie(int[] tree, int databaseSegment) {
+        expand(tree, databaseSegment, allocateBlock(), 0, 0, 0, 0);
+        blocks = Arrays.copyOf(blocks, blockCount * BLOCK_SIZE);
+        netmasks = Arrays.copyOf(netmasks, blockCount * BLOCK_SIZE);
+    }
+
+    /**
+     * Returns the leaf pointer for an IPv6 address, i.e. what the search tree
+     * walk would return.
+     */
+    int seek(long high, long low) {
+        return (int) seekNetwork(high, low);
+    }
+
+    /**
+     * Returns the leaf pointer together with the prefix length of the network
+     * it covers, packed as by {@link LookupService#network(int, int)}.
+     */
+    long seekNetwork(long high, long low) {
+        int block = 0;
+        for (int i = 0; i < 16; i++) {
+            long half = i < 8 ? high : low;
+            int stride = (int) (half >>> (56 - 8 * (i & 7))) & (BLOCK_SIZE - 1);
+            int index = (block << STRIDE_BITS) | stride;
+            int entry = blocks[index];
+            if (entry >= 0) return LookupService.network(entry, netmasks[index] & 0xFF);
+            block = ~entry;
+        }
+        // shouldn't reach here
+        return 0;
+    }
+
+    /**
+     * Pushes the leaves below node into block.
+     *
+     * @param depth the depth of node in the whole tree.
+     * @param prefix the bits below the start of the block leading to node.
+     * @param bits the number of bits in prefix.
+     */
+    private void expand(int[] tree, int databaseSegment, int block, int node, int depth, int prefix, int bits) {
+        for (int branch = 0; branch < 2; branch++) {
+            int child = tree[2 * node + branch];
+            int childPrefix = (prefix << 1) | branch;
+            int childBits = bits + 1;
+            if (child >= databaseSegment) {
+                fill(block, childPrefix, childBits, child, depth + 1);
+            } else if (depth + 1 == 128) {
+                // a malformed tree, the walk gives up here as well
+                fill(block, childPrefix, childBits, 0, 128);
+            } else if (childBits == STRIDE_BITS) {
+                int next = allocateBlock();
+                blocks[(block << STRIDE_BITS) | childPrefix] = ~next;
+                expand(tree, databaseSegment, next, child, depth + 1, 0, 0);
+            } else {
+                expand(tree, databaseSegment, block, child, depth + 1, childPrefix, childBits);
+            }
+        }
+    }
+
+    private void fill(int block, int prefix, int bits, int leaf, int netmask) {
+        int from = (block << STRIDE_BITS) | (prefix << (STRIDE_BITS - bits));
+        Arrays.fill(blocks, from, from + (1 << (STRIDE_BITS - bits)), leaf);
+        Arrays.fill(netmasks, from, from + (1 << (STRIDE_BITS - bits)), (byte) netmask);
+    }
+
+    private int allocateBlock() {
+        if ((blockCount + 1) * BLOCK_SIZE > blocks.length) {
+            blocks = Arrays.copyOf(blocks, blocks.length * 2);
+            netmasks = Arrays.copyOf(netmasks, netmasks.length * 2);
+        }
+        return blockCount++;
+    }
+}
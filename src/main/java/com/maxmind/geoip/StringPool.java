@@ -0,0 +1,68 @@
+package com.maxmind.geoip;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Hands out one shared String per distinct database string, so names that
+ * repeat across records and lookups do not pile up as copies on the heap.
+ * <p>
+ *
+ * Strings are found by a hash over their raw bytes. A hit is only taken if
+ * the bytes and the charset match exactly, so a hash collision costs a
+ * decode but never returns the wrong string.
+ */
+final class StringPool {
+
+    private static final class Pooled {
+        final byte[] bytes;
+        final Charset charset;
+        final String string;
+
+        Pooled(byte[] bytes, Charset charset, String string) {
+            this.bytes = bytes;
+            this.charset = charset;
+            this.string = string;
+        }
+    }
+
+    private final LongKeyCache<Pooled> cache;
+
+    /**
+     * @param capacity the maximum number of strings kept.
+     */
+    StringPool(int capacity) {
+        cache = new LongKeyCache<Pooled>(capacity, CachePolicy.LRU);
+    }
+
+    /**
+     * Returns the string the bytes decode to, from the pool if it has been
+     * decoded before.
+     */
+    String get(byte[] buffer, int offset, int length, Charset charset) {
+        long hash = hash(buffer, offset, length);
+        Pooled pooled = cache.get(length, hash);
+        if (pooled != null && pooled.charset == charset && matches(pooled.bytes, buffer, offset)) {
+            return pooled.string;
+        }
+        String string = new String(buffer, offset, length, charset);
+        cache.put(length, hash, new Pooled(Arrays.copyOfRange(buffer, offset, offset + length), charset, string));
+        return string;
+    }
+
+    private static boolean matches(byte[] bytes, byte[] buffer, int offset) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != buffer[offset + i]) return false;
+        }
+        return true;
+    }
+
+    /* 64 bit FNV-1a */
+    private static long hash(byte[] buffer, int offset, int length) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = offset; i < offset + length; i++) {
+            h = (h ^ (buffer[i] & 0xFF)) * 0x100000001B3L;
+        }
+        return h;
+    }
+}
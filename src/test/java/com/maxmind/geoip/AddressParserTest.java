@@ -0,0 +1,76 @@
+package com.maxmind.geoip;
+
+/* AddressParserTest.java */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class AddressParserTest {
+
+	@Test
+	public void testParseIPv4() {
+		assertEquals(0x4011FED8L, AddressParser.parseIPv4("64.17.254.216"));
+		assertEquals(0xFFFFFFFFL, AddressParser.parseIPv4("255.255.255.255"));
+		assertEquals(0L, AddressParser.parseIPv4("0.0.0.0"));
+
+		byte[] line = "GET 64.17.254.216 200".getBytes(StandardCharsets.UTF_8);
+		assertEquals(0x4011FED8L, AddressParser.parseIPv4(line, 4, 13));
+
+		assertEquals(-1, AddressParser.parseIPv4("256.1.1.1"));
+		assertEquals(-1, AddressParser.parseIPv4("1.2.3"));
+		assertEquals(-1, AddressParser.parseIPv4("1.2.3.4.5"));
+		assertEquals(-1, AddressParser.parseIPv4("1.2.3.4 "));
+		assertEquals(-1, AddressParser.parseIPv4(""));
+		assertEquals(-1, AddressParser.parseIPv4("localhost"));
+	}
+
+	@Test
+	public void testParseIPv6() {
+		long[] v6 = new long[2];
+
+		assertTrue(AddressParser.parseIPv6("2001:db8::ff00:42:8329", v6));
+		assertEquals(0x20010db800000000L, v6[0]);
+		assertEquals(0x0000ff0000428329L, v6[1]);
+
+		assertTrue(AddressParser.parseIPv6("::ffff:64.17.254.216", v6));
+		assertEquals(0L, v6[0]);
+		assertEquals(0xffff4011fed8L, v6[1]);
+
+		assertTrue(AddressParser.parseIPv6("[fe80::1%eth0]", v6));
+		assertEquals(0xfe80000000000000L, v6[0]);
+		assertEquals(1L, v6[1]);
+
+		assertTrue(AddressParser.parseIPv6("1:2:3:4:5:6:7:8", v6));
+		assertEquals(0x0001000200030004L, v6[0]);
+		assertEquals(0x0005000600070008L, v6[1]);
+
+		byte[] line = "src=2001:200:: dst".getBytes(StandardCharsets.UTF_8);
+		assertTrue(AddressParser.parseIPv6(line, 4, 10, v6));
+		assertEquals(0x2001020000000000L, v6[0]);
+		assertEquals(0L, v6[1]);
+
+		assertFalse(AddressParser.parseIPv6("1::2::3", v6));
+		assertFalse(AddressParser.parseIPv6("1:2:3:4:5:6:7:8:9", v6));
+		assertFalse(AddressParser.parseIPv6("12345::", v6));
+		assertFalse(AddressParser.parseIPv6(":1::", v6));
+		assertFalse(AddressParser.parseIPv6("64.17.254.216", v6));
+		assertFalse(AddressParser.parseIPv6("ipv6.google.com", v6));
+	}
+
+	@Test
+	public void testHostnamesAreNotResolved() throws IOException {
+		LookupService cl = new LookupService("src/test/resources/GeoIP/GeoIP.dat", LookupService.DBType.MEMORY_CACHE);
+
+		assertEquals("--", cl.getCountry("localhost").getCode());
+		assertEquals(0, cl.getID("localhost"));
+		assertEquals("US", cl.getCountry("64.17.254.216").getCode());
+
+		cl.close();
+	}
+}
@@ -0,0 +1,54 @@
+package com.maxmind.geoip;
+
+/* CachingLookupServiceTest.java */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class CachingLookupServiceTest {
+
+	@Test
+	public void testCachedCityLookup() throws IOException {
+
+		CachingLookupService cl = new CachingLookupService(new LookupService(
+				"src/test/resources/GeoIP/GeoIPCity.dat", LookupService.DBType.MEMORY_CACHE), 16);
+
+		Location l2 = cl.getLocation("66.92.181.240");
+		assertEquals("Fremont", l2.city);
+		assertSame(l2, cl.getLocation("66.92.181.240"));
+		assertNull(cl.getLocation("127.0.0.1"));
+		assertNull(cl.getLocation("127.0.0.1"));
+
+		// far more addresses than entries, results must stay right
+		LookupService uncached = cl.getLookupService();
+		for (long ip = 0x42000000L; ip < 0x42000000L + 4096; ip += 3) {
+			Location expected = uncached.getLocation(ip);
+			Location actual = cl.getLocation(ip);
+			assertEquals(expected == null ? null : expected.city, actual == null ? null : actual.city);
+			assertEquals(uncached.getID(ip), cl.getID(ip));
+			assertEquals(uncached.getID(ip), cl.getID(ip));
+		}
+
+		cl.close();
+	}
+
+	@Test
+	public void testCachedCountryLookup() throws IOException {
+
+		CachingLookupService cl = CachingLookupService.withMaxBytes(new LookupService(
+				"src/test/resources/GeoIP/GeoIPv6.dat", LookupService.DBType.MEMORY_CACHE), 1 << 20);
+
+		assertEquals("US", cl.getCountryV6("::64.17.254.216").getCode());
+		assertEquals("US", cl.getCountryV6("::ffff:64.17.254.216").getCode());
+		assertEquals("JP", cl.getCountryV6("2001:200::").getCode());
+		assertEquals("JP", cl.getCountryV6("2001:200::").getCode());
+		assertEquals("JP", cl.getCountry("2001:200::").getCode());
+
+		cl.close();
+	}
+}
@@ -0,0 +1,41 @@
+package com.maxmind.geoip;
+
+/* CityLookupTest.java */
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+public class CityLookupBlockCacheTest {
+	private static final double DELTA = 1e-5;
+
+	@Test
+	public void testCityLookupBlockCache() throws IOException {
+
+		// the smallest budget allowed
+		LookupService cl = new LookupService(
+                Paths.get("src/test/resources/GeoIP/GeoIPCity.dat"), LookupService.DBType.BLOCK_CACHE,
+                LookupService.MIN_BLOCK_CACHE_BYTES);
+
+		Location l1 = cl.getLocation("222.230.137.0");
+		Location l2 = cl.getLocation("66.92.181.240");
+
+		assertEquals("JP", l1.countryCode);
+		assertEquals("Tokyo", l1.city);
+		assertEquals(35.6850, l1.latitude, DELTA);
+		assertEquals(139.7510, l1.longitude, DELTA);
+		assertEquals("Fremont", l2.city);
+		assertEquals(807, l2.metro_code);
+		assertEquals("Tokyo", cl.getLocation("222.230.137.0").city);
+		cl.close();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBudgetTooSmall() throws IOException {
+		new LookupService(Paths.get("src/test/resources/GeoIP/GeoIPCity.dat"), LookupService.DBType.BLOCK_CACHE, 8192);
+	}
+
+}
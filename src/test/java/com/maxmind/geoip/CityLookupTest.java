@@ -3,6 +3,8 @@ package com.maxmind.geoip;
 /* CityLookupTest.java */
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import java.io.IOException;
 
@@ -39,4 +41,60 @@ public class CityLookupTest {
 
 	}
 
+	@Test
+	public void testCityLookupBatch() throws IOException {
+
+		LookupService cl = new LookupService("src/test/resources/GeoIP/GeoIPCity.dat", LookupService.DBType.MEMORY_CACHE);
+
+		final long[] ips = { 0x4011FED8L, 0x425CB5F0L, 0x7F000001L };
+		final Location[] locations = new Location[ips.length];
+		cl.getLocations(ips, new LookupService.LocationSink() {
+			@Override
+			public void location(int index, Location location) {
+				locations[index] = location;
+			}
+		});
+
+		assertEquals("Fremont", locations[1].city);
+		assertEquals("94538", locations[1].postalCode);
+		assertEquals(cl.getLocation(ips[0]).city, locations[0].city);
+		assertNull(locations[2]);
+
+		cl.close();
+
+	}
+
+	@Test
+	public void testCityLookupCached() throws IOException {
+
+		LookupService cl = new LookupService("src/test/resources/GeoIP/GeoIPCity.dat", LookupService.DBType.MEMORY_CACHE);
+		cl.setLocationCache(1024, CachePolicy.LRU);
+
+		Location l2 = cl.getLocation("66.92.181.240");
+		assertEquals("Fremont", l2.city);
+		assertEquals(807, l2.metro_code);
+		assertSame(l2, cl.getLocation("66.92.181.240"));
+		assertNull(cl.getLocation("127.0.0.1"));
+
+		cl.close();
+
+	}
+
+	@Test
+	public void testCityLookupStringPool() throws IOException {
+
+		LookupService cl = new LookupService("src/test/resources/GeoIP/GeoIPCity.dat", LookupService.DBType.MEMORY_CACHE);
+		cl.setStringPool(1024);
+
+		Location l1 = cl.getLocation("66.92.181.240");
+		Location l2 = cl.getLocation("66.92.181.240");
+		assertEquals("Fremont", l2.city);
+		assertSame(l1.city, l2.city);
+		assertSame(l1.region, l2.region);
+		assertSame(l1.postalCode, l2.postalCode);
+
+		cl.close();
+
+	}
+
 }
@@ -32,4 +32,22 @@ public class CityLookupV6Test {
 
 		cl.close();
 	}
+
+	@Test
+	public void testCompiledCityLookupV6() throws IOException {
+
+		LookupService cl = new LookupService(
+                "src/test/resources/GeoIP/GeoLiteCityv6.dat", LookupService.DBType.COMPILED);
+
+		Location l1 = cl.getLocationV6("2a02:ff40::");
+		Location l2 = cl.getLocationV6("2001:208::");
+
+		assertEquals("SG", l2.countryCode);
+		assertEquals(1.3666992, l2.latitude, DELTA);
+		assertEquals(103.80000, l2.longitude, DELTA);
+		assertEquals(11074.877266, l2.distance(l1), DELTA);
+		assertEquals("JP", cl.getLocationV6("2001:200::").countryCode);
+
+		cl.close();
+	}
 }
@@ -0,0 +1,55 @@
+package com.maxmind.geoip;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class CompositeLookupServiceTest {
+	@Test
+	public void testCompositeLookup() throws IOException {
+
+		String dir = "src/test/resources/GeoIP/";
+		LookupService city = new LookupService(dir + "GeoIPCity.dat", LookupService.DBType.MEMORY_CACHE);
+		LookupService asnum = new LookupService(dir + "GeoIPASNum.dat", LookupService.DBType.MEMORY_CACHE);
+		LookupService netspeed = new LookupService(dir + "GeoIPNetSpeedCell.dat", LookupService.DBType.MEMORY_CACHE);
+		LookupService countryV6 = new LookupService(dir + "GeoIPv6.dat", LookupService.DBType.MEMORY_CACHE);
+		CompositeLookupService cl = new CompositeLookupService(city, asnum, netspeed, countryV6);
+
+		CompositeResult result = cl.lookup("66.92.181.240");
+		assertEquals("Fremont", result.location.city);
+		assertEquals(asnum.getOrg("66.92.181.240"), result.asNum);
+		assertEquals(netspeed.getOrg("66.92.181.240"), result.netSpeed);
+		assertEquals(countryV6.getCountryV6("66.92.181.240"), result.country);
+		assertNull(result.isp);
+
+		assertEquals("AS33224", cl.lookup("64.17.254.216").asNum);
+		CompositeResult mapped = cl.lookup("::ffff:66.92.181.240");
+		assertEquals("Fremont", mapped.location.city);
+		assertEquals(asnum.getOrg("66.92.181.240"), mapped.asNum);
+		assertEquals(countryV6.getCountryV6("::ffff:66.92.181.240"), mapped.country);
+		assertEquals("Cable/DSL", cl.lookup("89.66.148.0").netSpeed);
+		CompositeResult native6 = cl.lookup("2001:200::");
+		assertEquals("JP", native6.country.getCode());
+		assertNull(native6.location);
+		assertNull(native6.asNum);
+		assertNull(native6.netSpeed);
+		assertNull(cl.lookup("not an address"));
+
+		city.close();
+		asnum.close();
+		netspeed.close();
+		countryV6.close();
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDuplicateEdition() throws IOException {
+
+		LookupService city = new LookupService("src/test/resources/GeoIP/GeoIPCity.dat", LookupService.DBType.MEMORY_CACHE);
+		new CompositeLookupService(city, city);
+
+	}
+}
@@ -6,6 +6,7 @@ package com.maxmind.geoip;
 /* For Geoip City Edition, use CityLookupTest.java */
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.io.IOException;
 
@@ -27,4 +28,87 @@ public class CountryLookupTest {
 		cl.close();
 
 	}
+
+	@Test
+	public void testCompiledCountryLookup() throws IOException {
+
+		String dbfile = "src/test/resources/GeoIP/GeoIP.dat";
+		LookupService cl = new LookupService(dbfile, LookupService.DBType.COMPILED);
+		LookupService reference = new LookupService(dbfile, LookupService.DBType.File);
+
+		assertEquals("US", cl.getCountry("64.17.254.216").getCode());
+		assertEquals("Italy", cl.getCountry("78.26.70.208").getName());
+		assertEquals("France", cl.getCountry("83.206.36.224").getName());
+		assertEquals("Germany", cl.getCountry("85.88.2.224").getName());
+
+		for (long ip = 0; ip <= 0xFFFFFFFFL; ip += 65521) {
+			assertEquals(reference.getID(ip), cl.getID(ip));
+		}
+
+		reference.close();
+		cl.close();
+
+	}
+
+	@Test
+	public void testCountryIdsBatch() throws IOException {
+
+		String dbfile = "src/test/resources/GeoIP/GeoIP.dat";
+		LookupService cl = new LookupService(dbfile, LookupService.DBType.MEMORY_CACHE);
+
+		int[] ips = { 0x4011FED8, 0x4E1A46D0, 0x53CE24E0, 0x555802E0, 0x7F000001 };
+		int[] ids = new int[ips.length];
+		cl.getCountryIds(ips, ids);
+
+		for (int i = 0; i < ips.length; i++) {
+			assertEquals(cl.getID(ips[i] & 0xFFFFFFFFL), ids[i]);
+		}
+		assertEquals(0, ids[4]);
+
+		cl.close();
+
+	}
+
+	@Test
+	public void testSharedCountries() throws IOException {
+
+		String dbfile = "src/test/resources/GeoIP/GeoIP.dat";
+		LookupService cl = new LookupService(dbfile, LookupService.DBType.MEMORY_CACHE);
+
+		int index = cl.getCountryIndex("64.17.254.216");
+		assertEquals("US", LookupService.getCountryByIndex(index).getCode());
+		assertSame(LookupService.getCountryByIndex(index), cl.getCountry("64.17.254.216"));
+		assertSame(cl.getCountry("78.26.70.208"), cl.getCountry("78.26.70.208"));
+		assertEquals(0, cl.getCountryIndex("127.0.0.1"));
+		assertEquals("--", LookupService.getCountryByIndex(0).getCode());
+
+		cl.close();
+
+	}
+
+	@Test
+	public void testNetworkCache() throws IOException {
+
+		String dbfile = "src/test/resources/GeoIP/GeoIP.dat";
+		LookupService cl = new LookupService(dbfile, LookupService.DBType.MEMORY_CACHE);
+		LookupService compiled = new LookupService(dbfile, LookupService.DBType.COMPILED);
+		LookupService reference = new LookupService(dbfile, LookupService.DBType.File);
+		cl.setNetworkCache(1000);
+
+		for (long ip = 0x40000000L; ip < 0x40400000L; ip += 251) {
+			int netmask = reference.getNetmask(ip);
+			long network = ip & (0xFFFFFFFFL << (32 - netmask)) & 0xFFFFFFFFL;
+			long last = network + (1L << (32 - netmask)) - 1;
+			assertEquals(reference.getID(ip), cl.getID(ip));
+			assertEquals(netmask, cl.getNetmask(ip));
+			assertEquals(netmask, compiled.getNetmask(ip));
+			assertEquals(reference.getID(ip), reference.getID(network));
+			assertEquals(reference.getID(ip), reference.getID(last));
+		}
+
+		reference.close();
+		compiled.close();
+		cl.close();
+
+	}
 }
@@ -0,0 +1,103 @@
+package com.maxmind.geoip;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+public class DatabaseCompilerTest {
+	@Test
+	public void testCompileCountry() throws IOException {
+
+		String dir = "src/test/resources/GeoIP/";
+		DatabaseCompiler compiler = new DatabaseCompiler(DatabaseInfo.COUNTRY_EDITION);
+		compiler.compile(Paths.get(dir + "GeoIP.csv"));
+		Path file = Files.createTempFile("GeoIP", ".dat");
+		compiler.write(file);
+
+		LookupService expected = new LookupService(dir + "GeoIP.dat", LookupService.DBType.MEMORY_CACHE);
+		LookupService cl = new LookupService(file, LookupService.DBType.MEMORY_CACHE);
+		for (String line : Files.readAllLines(Paths.get(dir + "GeoIP.csv"), StandardCharsets.ISO_8859_1)) {
+			String[] fields = line.split(",");
+			assertEquals(expected.getCountry(fields[0]), cl.getCountry(fields[0]));
+			assertEquals(expected.getCountry(fields[1]), cl.getCountry(fields[1]));
+		}
+		expected.close();
+		cl.close();
+		Files.delete(file);
+
+	}
+
+	@Test
+	public void testCompileCityV6() throws IOException {
+
+		String dir = "src/test/resources/GeoIP/";
+		DatabaseCompiler compiler = new DatabaseCompiler(DatabaseInfo.CITY_EDITION_REV1_V6);
+		compiler.compile(Paths.get(dir + "GeoLiteCityv6.csv"));
+		Path file = Files.createTempFile("GeoLiteCityv6", ".dat");
+		compiler.write(file);
+
+		LookupService expected = new LookupService(dir + "GeoLiteCityv6.dat", LookupService.DBType.MEMORY_CACHE);
+		LookupService cl = new LookupService(file, LookupService.DBType.MEMORY_CACHE);
+		for (String line : Files.readAllLines(Paths.get(dir + "GeoLiteCityv6.csv"), StandardCharsets.ISO_8859_1)) {
+			String start = line.split(",")[0];
+			Location e = expected.getLocationV6(start);
+			Location l = cl.getLocationV6(start);
+			assertEquals(e.countryCode, l.countryCode);
+			assertEquals(e.city, l.city);
+			assertEquals(e.latitude, l.latitude, 1e-4);
+			assertEquals(e.longitude, l.longitude, 1e-4);
+		}
+		expected.close();
+		cl.close();
+		Files.delete(file);
+
+	}
+
+	@Test
+	public void testOverlay() throws IOException {
+
+		DatabaseCompiler compiler = new DatabaseCompiler(DatabaseInfo.ORG_EDITION);
+		compiler.compile(Paths.get("src/test/resources/GeoIP/GeoIP-113.csv"));
+		compiler.compile(new StringReader("# datacenters\n64.17.254.216/30,\"Our, Datacenter\"\n"));
+		Path file = Files.createTempFile("GeoIPOrg", ".dat");
+		compiler.write(file);
+
+		LookupService cl = new LookupService(file, LookupService.DBType.MEMORY_CACHE);
+		assertEquals("Our, Datacenter", cl.getOrg("64.17.254.219"));
+		assertEquals("Karlin Peebles LLP", cl.getOrg("64.17.254.220"));
+		assertEquals("AT&T Worldnet Services", cl.getOrg("12.87.118.0"));
+		assertNull(cl.getOrg("64.17.254.224"));
+		cl.close();
+		Files.delete(file);
+
+	}
+
+	@Test(expected = IOException.class)
+	public void testInvalidLine() throws IOException {
+
+		new DatabaseCompiler(DatabaseInfo.COUNTRY_EDITION).compile(new StringReader("1.2.3.4,not an address,US\n"));
+
+	}
+
+	@Test(expected = IOException.class)
+	public void testUnalignedNetwork() throws IOException {
+
+		new DatabaseCompiler(DatabaseInfo.COUNTRY_EDITION).compile(new StringReader("\"10.0.0.5/24\",\"US\"\n"));
+
+	}
+
+	@Test(expected = IOException.class)
+	public void testNetworkPastAddressSpace() throws IOException {
+
+		new DatabaseCompiler(DatabaseInfo.COUNTRY_EDITION).compile(new StringReader("\"255.255.255.5/24\",\"US\"\n"));
+
+	}
+}
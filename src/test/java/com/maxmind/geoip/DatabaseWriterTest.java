@@ -0,0 +1,111 @@
+package com.maxmind.geoip;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+public class DatabaseWriterTest {
+	@Test
+	public void testCountryDatabase() throws IOException {
+
+		DatabaseWriter writer = new DatabaseWriter(DatabaseInfo.COUNTRY_EDITION);
+		writer.insert(AddressParser.parseIPv4("12.0.0.0"), 8, DatabaseWriter.countryIndex("US"));
+		writer.insert(AddressParser.parseIPv4("12.87.118.0"), 23, DatabaseWriter.countryIndex("CA"));
+		writer.insert(AddressParser.parseIPv4("64.17.254.216"), 29, DatabaseWriter.countryIndex("GB"));
+
+		Path file = Files.createTempFile("GeoIP", ".dat");
+		writer.write(file);
+		LookupService cl = new LookupService(file, LookupService.DBType.MEMORY_CACHE);
+
+		assertEquals(DatabaseInfo.COUNTRY_EDITION, cl.getDatabaseInfo().getType());
+		assertEquals("US", cl.getCountry("12.1.2.3").getCode());
+		assertEquals("CA", cl.getCountry("12.87.119.255").getCode());
+		assertEquals("US", cl.getCountry("12.87.120.0").getCode());
+		assertEquals("GB", cl.getCountry("64.17.254.223").getCode());
+		assertEquals("--", cl.getCountry("64.17.254.224").getCode());
+		assertEquals(23, cl.getNetmask(AddressParser.parseIPv4("12.87.118.1")));
+
+		cl.close();
+		Files.delete(file);
+
+	}
+
+	@Test
+	public void testCityDatabase() throws IOException {
+
+		Location fremont = new Location();
+		fremont.countryCode = "US";
+		fremont.region = "CA";
+		fremont.city = "Fremont";
+		fremont.postalCode = "94538";
+		fremont.latitude = 37.5079f;
+		fremont.longitude = -121.96f;
+		fremont.metro_code = 807;
+		fremont.area_code = 510;
+		Location vienna = new Location();
+		vienna.countryCode = "AT";
+		vienna.city = "Wien";
+		vienna.latitude = 48.2f;
+		vienna.longitude = 16.3667f;
+
+		DatabaseWriter writer = new DatabaseWriter(DatabaseInfo.CITY_EDITION_REV1);
+		writer.insert(AddressParser.parseIPv4("66.92.181.0"), 24, fremont);
+		writer.insert(AddressParser.parseIPv4("66.92.182.0"), 24, fremont);
+		writer.insert(AddressParser.parseIPv4("80.108.0.0"), 14, vienna);
+
+		Path file = Files.createTempFile("GeoIPCity", ".dat");
+		writer.write(file);
+		LookupService cl = new LookupService(file, LookupService.DBType.MEMORY_CACHE);
+
+		Location l = cl.getLocation("66.92.181.240");
+		assertEquals("US", l.countryCode);
+		assertEquals("CA", l.region);
+		assertEquals("Fremont", l.city);
+		assertEquals("94538", l.postalCode);
+		assertEquals(37.5079f, l.latitude, 1e-4);
+		assertEquals(-121.96f, l.longitude, 1e-4);
+		assertEquals(807, l.metro_code);
+		assertEquals(510, l.area_code);
+		assertEquals("Fremont", cl.getLocation("66.92.182.1").city);
+
+		l = cl.getLocation("80.110.1.1");
+		assertEquals("Austria", l.countryName);
+		assertEquals("Wien", l.city);
+		assertNull(l.region);
+		assertNull(cl.getLocation("66.92.183.1"));
+
+		cl.close();
+		Files.delete(file);
+
+	}
+
+	@Test
+	public void testOrgAndV6Databases() throws IOException {
+
+		DatabaseWriter writer = new DatabaseWriter(DatabaseInfo.ORG_EDITION);
+		writer.insert(AddressParser.parseIPv4("64.17.254.216"), 29, "Karlin Peebles LLP");
+		Path file = Files.createTempFile("GeoIPOrg", ".dat");
+		writer.write(file);
+		LookupService cl = new LookupService(file, LookupService.DBType.MEMORY_CACHE);
+		assertEquals("Karlin Peebles LLP", cl.getOrg("64.17.254.220"));
+		assertNull(cl.getOrg("64.17.254.224"));
+		cl.close();
+
+		writer = new DatabaseWriter(DatabaseInfo.COUNTRY_EDITION_V6);
+		long[] v6 = new long[2];
+		AddressParser.parseIPv6("2001:200::", v6);
+		writer.insertV6(v6[0], v6[1], 32, DatabaseWriter.countryIndex("JP"));
+		writer.write(file);
+		cl = new LookupService(file, LookupService.DBType.MEMORY_CACHE);
+		assertEquals("JP", cl.getCountryV6("2001:200:1::1").getCode());
+		assertEquals("--", cl.getCountryV6("2001:201::1").getCode());
+		cl.close();
+		Files.delete(file);
+
+	}
+}
@@ -0,0 +1,49 @@
+package com.maxmind.geoip;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class InterruptedLookupTest {
+	@Test
+	public void testFile() throws Exception {
+		check(LookupService.DBType.File);
+	}
+
+	@Test
+	public void testBlockCache() throws Exception {
+		check(LookupService.DBType.BLOCK_CACHE);
+	}
+
+	/*
+	 * An interrupt during a read closes the channel, which used to fail the
+	 * lookups of every other thread from then on.
+	 */
+	private static void check(LookupService.DBType dbType) throws Exception {
+
+		final LookupService cl = new LookupService(Paths.get("src/test/resources/GeoIP/GeoIPCity.dat"), dbType);
+		final AtomicReference<Object> interrupted = new AtomicReference<Object>();
+		Thread thread = new Thread() {
+			@Override
+			public void run() {
+				try {
+					Thread.currentThread().interrupt();
+					String city = cl.getLocation("66.92.181.240").city;
+					interrupted.set(Thread.currentThread().isInterrupted() ? city : "not interrupted");
+				} catch (RuntimeException e) {
+					interrupted.set(e);
+				}
+			}
+		};
+		thread.start();
+		thread.join();
+
+		assertEquals("Fremont", interrupted.get());
+		assertEquals("Tokyo", cl.getLocation("222.230.137.0").city);
+		cl.close();
+
+	}
+}
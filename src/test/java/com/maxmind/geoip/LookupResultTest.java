@@ -0,0 +1,54 @@
+package com.maxmind.geoip;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class LookupResultTest {
+	@Test
+	public void testCountryResult() throws IOException {
+
+		LookupService cl = new LookupService("src/test/resources/GeoIP/GeoIP.dat", LookupService.DBType.MEMORY_CACHE);
+		LookupResult<Country> result = cl.lookupCountry("64.17.254.220");
+		assertEquals("US", result.getRecord().getCode());
+		assertEquals(cl.getNetmask(AddressParser.parseIPv4("64.17.254.220")), result.getNetmask());
+		assertTrue(result.contains(result.getNetwork().getAddress()));
+		assertTrue(result.contains(AddressParser.parseIPv4("64.17.254.216")));
+		assertFalse(result.contains(AddressParser.parseIPv4("64.17.254.224")));
+		assertNull(cl.lookupCountry("not an address"));
+		cl.close();
+
+	}
+
+	@Test
+	public void testLocationResult() throws IOException {
+
+		LookupService cl = new LookupService("src/test/resources/GeoIP/GeoIPCity.dat", LookupService.DBType.MEMORY_CACHE);
+		LookupResult<Location> result = cl.lookupLocation("66.92.181.240");
+		assertEquals("Fremont", result.getRecord().city);
+		LookupResult<Location> empty = cl.lookupLocation("10.0.0.1");
+		assertNull(empty.getRecord());
+		assertTrue(empty.getNetmask() > 0);
+		cl.close();
+
+	}
+
+	@Test
+	public void testV6Result() throws IOException {
+
+		LookupService cl = new LookupService("src/test/resources/GeoIP/GeoIPv6.dat", LookupService.DBType.MEMORY_CACHE);
+		LookupResult<Country> result = cl.lookupCountryV6("2001:200:1234::1");
+		assertEquals("JP", result.getRecord().getCode());
+		assertEquals(32, result.getNetmask());
+		assertEquals("2001:200::/32", result.getNetwork().toString());
+		assertTrue(result.containsV6(0x2001020000000000L, 0));
+		assertFalse(result.containsV6(0x2001020100000000L, 0));
+		cl.close();
+
+	}
+}
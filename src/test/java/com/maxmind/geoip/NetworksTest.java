@@ -0,0 +1,57 @@
+package com.maxmind.geoip;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class NetworksTest {
+	@Test
+	public void testCountryNetworks() throws IOException {
+
+		LookupService cl = new LookupService("src/test/resources/GeoIP/GeoIP.dat", LookupService.DBType.MEMORY_CACHE);
+		List<Network> networks = cl.networks().collect(Collectors.toList());
+		assertEquals(networks, cl.networks().parallel().collect(Collectors.toList()));
+		assertTrue(networks.size() > 0);
+
+		long previous = -1;
+		for (Network network : networks) {
+			assertTrue(network.getAddress() > previous);
+			previous = network.getAddress();
+			assertEquals(cl.getCountry(network.getAddress()), cl.getCountry(network));
+			assertEquals(network.getPrefixLength(), cl.getNetmask(network.getAddress()));
+		}
+		assertEquals("US", cl.getCountry(networks.get(0)).getCode());
+		cl.close();
+
+	}
+
+	@Test
+	public void testCityNetworks() throws IOException {
+
+		LookupService cl = new LookupService("src/test/resources/GeoIP/GeoIPCity.dat", LookupService.DBType.MEMORY_CACHE);
+		for (Network network : cl.networks().collect(Collectors.toList())) {
+			long last = network.getAddress() + (1L << (32 - network.getPrefixLength())) - 1;
+			assertEquals(cl.getLocation(last).city, cl.getLocation(network).city);
+		}
+		cl.close();
+
+	}
+
+	@Test
+	public void testV6Networks() throws IOException {
+
+		LookupService cl = new LookupService("src/test/resources/GeoIP/GeoIPv6.dat", LookupService.DBType.MEMORY_CACHE);
+		List<Network> networks = cl.networks().collect(Collectors.toList());
+		Network last = networks.get(networks.size() - 1);
+		assertEquals("2001:200::/32", last.toString());
+		assertEquals("JP", cl.getCountry(last).getCode());
+		assertEquals("::ffff:c57:7600/120", networks.get(2).toString());
+		cl.close();
+
+	}
+}
@@ -0,0 +1,75 @@
+package com.maxmind.geoip;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class RecordPointerTest {
+
+	// a leaf pointer above 2^31, negative as a signed int
+	private static final long POINTER = 0x80000010L;
+
+	private static Path database;
+
+	/*
+	 * An organization database with a single node whose right child points
+	 * to a record past 2 GB. The file is sparse, so only the node, the record
+	 * and the trailer take up space.
+	 */
+	@BeforeClass
+	public static void createDatabase() throws IOException {
+		database = Files.createTempFile("pointer", ".dat");
+		try (FileChannel channel = FileChannel.open(database, StandardOpenOption.WRITE)) {
+			ByteBuffer node = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+			node.putInt(1).putInt((int) POINTER).flip();
+			channel.write(node, 0);
+			long record = POINTER + (2 * DatabaseInfo.ORG_RECORD_LENGTH - 1);
+			channel.write(ByteBuffer.wrap("Big Org\0".getBytes(StandardCharsets.ISO_8859_1)), record);
+			byte[] trailer = { -1, -1, -1, (byte) (DatabaseInfo.ORG_EDITION + 105), 1, 0, 0 };
+			channel.write(ByteBuffer.wrap(trailer), record + 8);
+		}
+	}
+
+	@AfterClass
+	public static void deleteDatabase() throws IOException {
+		Files.delete(database);
+	}
+
+	@Test
+	public void testFile() throws IOException {
+		check(new LookupService(database.toString(), LookupService.DBType.File));
+	}
+
+	@Test
+	public void testMMap() throws IOException {
+		check(new LookupService(database.toString(), LookupService.DBType.MMAP));
+	}
+
+	private static void check(LookupService service) {
+		assertEquals("Big Org", service.getOrg("128.0.0.1"));
+		assertEquals("Big Org", service.getOrg("255.255.255.255"));
+		assertNull(service.getOrg("127.255.255.255"));
+		assertEquals(1, service.getNetmask(AddressParser.parseIPv4("200.1.2.3")));
+
+		List<Network> networks = service.networks().collect(Collectors.toList());
+		assertEquals(1, networks.size());
+		assertEquals("128.0.0.0/1", networks.get(0).toString());
+		assertEquals("Big Org", service.getOrg(networks.get(0)));
+		assertEquals("Big Org", service.lookupOrg("128.0.0.1").getRecord());
+		service.close();
+	}
+}
@@ -0,0 +1,24 @@
+package com.maxmind.geoip;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class RegionNameTest {
+	@Test
+	public void testRegionNameByCode() {
+
+		assertEquals("Canillo", regionName.regionNameByCode("AD", "02"));
+		assertEquals("California", regionName.regionNameByCode("US", "CA"));
+		assertEquals("Harare", regionName.regionNameByCode("ZW", "10"));
+		assertNull(regionName.regionNameByCode("US", "ZZ"));
+		assertNull(regionName.regionNameByCode("XX", "01"));
+		assertNull(regionName.regionNameByCode("US", "ca"));
+		assertNull(regionName.regionNameByCode("US", "C"));
+		assertNull(regionName.regionNameByCode("US", ""));
+		assertNull(regionName.regionNameByCode("US", null));
+		assertNull(regionName.regionNameByCode(null, "CA"));
+
+	}
+}
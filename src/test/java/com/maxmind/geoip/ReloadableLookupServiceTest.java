@@ -0,0 +1,72 @@
+package com.maxmind.geoip;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ReloadableLookupServiceTest {
+	@Test
+	public void testUpdateDuringLookups() throws Exception {
+
+		final String dbfile = "src/test/resources/GeoIP/GeoIP.dat";
+		final ReloadableLookupService cl = new ReloadableLookupService(
+				new LookupService(dbfile, LookupService.DBType.File));
+		final AtomicInteger wrong = new AtomicInteger();
+		final AtomicBoolean done = new AtomicBoolean();
+
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					while (!done.get()) {
+						if (!"US".equals(cl.getCountry("64.17.254.216").getCode())) wrong.incrementAndGet();
+						if (!"Italy".equals(cl.getCountry("78.26.70.208").getName())) wrong.incrementAndGet();
+					}
+				}
+			};
+			threads[i].start();
+		}
+		for (int i = 0; i < 20; i++) {
+			cl.update(new LookupService(dbfile, LookupService.DBType.File));
+			Thread.sleep(5);
+		}
+		done.set(true);
+		for (Thread thread : threads) thread.join();
+
+		assertEquals(0, wrong.get());
+		assertEquals("France", cl.getCountry("83.206.36.224").getName());
+		cl.close();
+
+	}
+
+	@Test
+	public void testCloseStopsWatching() throws Exception {
+
+		LookupService service = new LookupService("src/test/resources/GeoIP/GeoIP.dat", LookupService.DBType.MEMORY_CACHE);
+		ReloadableLookupService cl = new ReloadableLookupService(service);
+		cl.watch();
+		Thread watcher = service.watchThread;
+		assertTrue(watcher.isAlive());
+		cl.close();
+		watcher.join(5000);
+		assertFalse(watcher.isAlive());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testClosed() throws IOException {
+
+		ReloadableLookupService cl = new ReloadableLookupService(
+				new LookupService("src/test/resources/GeoIP/GeoIP.dat", LookupService.DBType.MEMORY_CACHE));
+		cl.close();
+		cl.getCountry("64.17.254.216");
+
+	}
+}
@@ -0,0 +1,59 @@
+package com.maxmind.geoip;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class WatchTest {
+	@Test
+	public void testReloadOnChange() throws Exception {
+
+		Path dir = Files.createTempDirectory("geoip");
+		Path dbfile = dir.resolve("GeoIP.dat");
+		Files.copy(Paths.get("src/test/resources/GeoIP/GeoIP.dat"), dbfile);
+		LookupService cl = new LookupService(dbfile.toFile(), LookupService.DBType.MMAP);
+		cl.setNetworkCache(100);
+
+		final BlockingQueue<LookupService> updates = new LinkedBlockingQueue<LookupService>();
+		cl.watch(new LookupService.UpdateCallback() {
+			@Override
+			public void update(LookupService updatedService) {
+				updates.add(updatedService);
+			}
+		});
+
+		// a file that is not a database must not replace the working one
+		Path tmpfile = dir.resolve("GeoIP.dat.tmp");
+		Files.write(tmpfile, new byte[] { 1, 2, 3 });
+		Files.move(tmpfile, dbfile, StandardCopyOption.ATOMIC_MOVE);
+		assertNull(updates.poll(3, TimeUnit.SECONDS));
+
+		Files.copy(Paths.get("src/test/resources/GeoIP/GeoIP.dat"), tmpfile);
+		Files.move(tmpfile, dbfile, StandardCopyOption.ATOMIC_MOVE);
+		LookupService updated = updates.poll(10, TimeUnit.SECONDS);
+		assertNotNull(updated);
+		assertEquals("US", updated.getCountry("64.17.254.216").getCode());
+		// the renames left the file mapped by the old service alone
+		assertEquals("US", cl.getCountry("64.17.254.216").getCode());
+		// the burst of writes is loaded once
+		assertNull(updates.poll(2, TimeUnit.SECONDS));
+
+		cl.watch(null);
+		updated.close();
+		cl.close();
+		Files.delete(dbfile);
+		Files.delete(dir);
+
+	}
+}